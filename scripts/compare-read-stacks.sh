@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# 실행 중인 애플리케이션에 대해 블로킹 목록 조회(JPA)와 스트리밍 조회(R2DBC)를 비교합니다.
+#  - 느린 클라이언트 N개를 동시에 붙였을 때의 JVM 스레드 수/RSS 증가량(연결당 메모리)
+#  - 동시 요청 처리량(초당 완료 요청 수)
+#
+# 사용법:
+#   scripts/compare-read-stacks.sh <app-pid> [동시 연결 수, 기본 200] [처리량 측정 요청 수, 기본 2000]
+set -euo pipefail
+
+APP_PID="${1:?usage: compare-read-stacks.sh <app-pid> [connections] [requests]}"
+CONNECTIONS="${2:-200}"
+REQUESTS="${3:-2000}"
+BASE_URL="${COMPARE_BASE_URL:-http://localhost:8080}"
+SLOW_RATE="${COMPARE_SLOW_RATE:-1k}"
+
+thread_count() {
+  jcmd "${APP_PID}" Thread.print | grep -c '^"'
+}
+
+rss_kb() {
+  ps -o rss= -p "${APP_PID}" | tr -d ' '
+}
+
+measure() {
+  local name="$1" url="$2" accept="$3"
+
+  local threads_before rss_before
+  threads_before=$(thread_count)
+  rss_before=$(rss_kb)
+
+  local pids=()
+  for _ in $(seq "${CONNECTIONS}"); do
+    curl -s -o /dev/null --limit-rate "${SLOW_RATE}" -H "Accept: ${accept}" "${url}" &
+    pids+=($!)
+  done
+  sleep 5
+
+  local threads_during rss_during
+  threads_during=$(thread_count)
+  rss_during=$(rss_kb)
+  kill "${pids[@]}" 2>/dev/null || true
+  wait 2>/dev/null || true
+
+  local start_ms end_ms
+  start_ms=$(date +%s%3N)
+  seq "${REQUESTS}" | xargs -P 50 -I{} curl -s -o /dev/null -H "Accept: ${accept}" "${url}"
+  end_ms=$(date +%s%3N)
+
+  echo "[${name}] connections=${CONNECTIONS} threads=+$((threads_during - threads_before))" \
+    "rss=+$(((rss_during - rss_before) / 1024))MB" \
+    "rss/connection=$(((rss_during - rss_before) / CONNECTIONS))KB" \
+    "throughput=$((REQUESTS * 1000 / (end_ms - start_ms)))req/s"
+}
+
+measure "blocking-jpa" "${BASE_URL}/api/appointments" "application/json"
+measure "reactive-r2dbc" "${BASE_URL}/api/stream/appointments" "application/x-ndjson"
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# 프로세스 시작부터 첫 번째 성공 응답(GET /api/appointments 200)까지의 시간을 측정합니다.
+# - 포함: JVM 기동, 컨텍스트 갱신, 첫 요청에서 생성되는 지연 초기화 빈, 첫 DB 커넥션, 첫 요청 처리
+# - 제외: ApplicationReadyEvent 이후의 메모리 색인 적재. 이 시간은 애플리케이션 로그에서 읽어 별도로 출력합니다.
+#
+# 두 모드 모두 실제 DB(mysql 프로필)를 대상으로 합니다. h2 프로필은 ddl-auto=create로 fast-startup의 스키마 조회 생략을
+# 덮어쓰므로 측정에 쓰지 않습니다. 스키마가 준비된 MySQL에 DB_URL/R2DBC_URL/DB_USERNAME/DB_PASSWORD로 접속합니다.
+#
+# 사용법:
+#   mvn -Paot-cds package   (AOT/CDS는 fast-startup,mysql로 처리/학습, 다른 프로필은 -Daot.profiles=...)
+#   scripts/measure-startup.sh default   [spring profiles, 기본 mysql]
+#   scripts/measure-startup.sh optimized [spring profiles, 기본 fast-startup,mysql]
+set -euo pipefail
+
+MODE="${1:-default}"
+BASE_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+APP_DIR="${BASE_DIR}/target/application"
+URL="${MEASURE_URL:-http://localhost:8080/api/appointments}"
+TIMEOUT_SECONDS="${MEASURE_TIMEOUT_SECONDS:-120}"
+
+case "${MODE}" in
+  default)
+    PROFILES="${2:-mysql}"
+    COMMAND=(java -jar "${APP_DIR}/reservation-management-api-0.0.1-SNAPSHOT.jar" "--spring.profiles.active=${PROFILES}")
+    ;;
+  optimized)
+    PROFILES="${2:-fast-startup,mysql}"
+    COMMAND=(java -XX:SharedArchiveFile="${APP_DIR}/application.jsa" -Dspring.aot.enabled=true
+      -jar "${APP_DIR}/reservation-management-api-0.0.1-SNAPSHOT.jar" "--spring.profiles.active=${PROFILES}")
+    ;;
+  *)
+    echo "unknown mode: ${MODE} (default | optimized)" >&2
+    exit 1
+    ;;
+esac
+
+START_MS=$(date +%s%3N)
+"${COMMAND[@]}" > "${BASE_DIR}/target/measure-startup-${MODE}.log" 2>&1 &
+APP_PID=$!
+trap 'kill "${APP_PID}" 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null "${URL}"; do
+  if ! kill -0 "${APP_PID}" 2>/dev/null; then
+    echo "application exited before first successful request, see target/measure-startup-${MODE}.log" >&2
+    exit 1
+  fi
+  if (( $(date +%s%3N) - START_MS > TIMEOUT_SECONDS * 1000 )); then
+    echo "timed out after ${TIMEOUT_SECONDS}s" >&2
+    exit 1
+  fi
+  sleep 0.05
+done
+
+END_MS=$(date +%s%3N)
+echo "mode=${MODE} profiles=${PROFILES} time-to-first-successful-request=$((END_MS - START_MS))ms"
+
+LOG_FILE="${BASE_DIR}/target/measure-startup-${MODE}.log"
+until grep -q "Appointment indexes loaded" "${LOG_FILE}"; do
+  if (( $(date +%s%3N) - START_MS > TIMEOUT_SECONDS * 1000 )); then
+    echo "index load did not finish within ${TIMEOUT_SECONDS}s" >&2
+    exit 1
+  fi
+  sleep 0.05
+done
+INDEXED_MS=$(date +%s%3N)
+echo "mode=${MODE} time-to-indexes-loaded=$((INDEXED_MS - START_MS))ms ($(grep -o 'appointments=[0-9]*, elapsedMs=[0-9]*' "${LOG_FILE}" | tail -1))"
@@ -1,10 +1,19 @@
 package com.reservation.management.api.appointment.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
 import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.dto.WaitlistResponse;
 import com.reservation.management.api.appointment.service.AppointmentService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,16 +21,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @RestController
 @RequestMapping("/api/appointments")
 public class AppointmentController {
 
+    /**
+     * CBOR 스트리밍 전용 매퍼입니다. ObjectMapper 타입 빈으로 등록하면 Spring Boot의 JSON 매퍼를 대체하므로 컨트롤러 내부에만 둡니다.
+     */
+    private static final CBORMapper CBOR_MAPPER = new CBORMapper();
+
     private final AppointmentService appointmentService;
 
-    public AppointmentController(AppointmentService appointmentService) {
+    /**
+     * CBOR 전체 목록 출력의 비동기 제한 시간입니다. 전역 {@code spring.mvc.async.request-timeout}은 짧은 비동기 요청 기준이라,
+     * 대량 목록이 그 안에 끝나지 않으면 200 응답 뒤 본문이 잘립니다. 0이면 제한하지 않습니다.
+     */
+    private final Duration cborExportTimeout;
+
+    public AppointmentController(
+            AppointmentService appointmentService,
+            @Value("${appointment.export.cbor-timeout:30m}") Duration cborExportTimeout
+    ) {
         this.appointmentService = appointmentService;
+        this.cborExportTimeout = cborExportTimeout;
     }
 
     @PostMapping
@@ -30,6 +56,12 @@ public class AppointmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/waitlist")
+    public ResponseEntity<WaitlistResponse> joinWaitlist(@RequestBody AppointmentCreateRequest request) {
+        WaitlistResponse response = appointmentService.joinWaitlist(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/{appointmentId}")
     public ResponseEntity<AppointmentResponse> getAppointment(@PathVariable Long appointmentId) {
         AppointmentResponse response = appointmentService.getAppointment(appointmentId);
@@ -42,9 +74,44 @@ public class AppointmentController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Accept: application/cbor 요청에는 압축 응답을 출력 버퍼로 바로 직렬화합니다.
+     * 응답을 직접 쓰는 비동기 작업으로 처리해 전역 비동기 제한 시간 대신 이 엔드포인트 전용 제한 시간을 적용합니다.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public WebAsyncTask<Void> streamAppointmentsAsCbor(HttpServletResponse response) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_CBOR_VALUE);
+        return new WebAsyncTask<>(cborExportTimeout.toMillis(), () -> {
+            try (JsonGenerator generator = CBOR_MAPPER.createGenerator(response.getOutputStream())) {
+                generator.writeStartArray();
+                appointmentService.streamAppointments(appointment -> writeValue(generator, appointment));
+                generator.writeEndArray();
+            }
+            return null;
+        });
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<AppointmentResponse>> searchAppointments(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<AppointmentResponse> responses = appointmentService.searchAppointments(query, limit);
+        return ResponseEntity.ok(responses);
+    }
+
     @PatchMapping("/{appointmentId}/cancel")
     public ResponseEntity<AppointmentResponse> cancelAppointment(@PathVariable Long appointmentId) {
         AppointmentResponse response = appointmentService.cancelAppointment(appointmentId);
         return ResponseEntity.ok(response);
     }
+
+    private void writeValue(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.reservation.management.api.appointment.controller;
+
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.service.AppointmentStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * NDJSON 스트리밍 조회 API입니다. 요청 스레드는 구독만 시작하고 반환되며,
+ * 응답은 클라이언트가 한 건을 받아 간 뒤 다음 건을 요청하는 방식(backpressure)으로 전송됩니다.
+ * {@code /api/appointments/{appointmentId}}와 경로가 겹치지 않도록 별도 접두사를 사용합니다.
+ */
+@RestController
+@RequestMapping("/api/stream")
+public class AppointmentStreamController {
+
+    private final AppointmentStreamService appointmentStreamService;
+
+    public AppointmentStreamController(AppointmentStreamService appointmentStreamService) {
+        this.appointmentStreamService = appointmentStreamService;
+    }
+
+    @GetMapping(value = "/appointments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AppointmentResponse> streamAppointments() {
+        return appointmentStreamService.streamAppointments();
+    }
+
+    @GetMapping(value = "/doctors/{doctorId}/schedule", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AppointmentResponse> streamDoctorSchedule(
+            @PathVariable Long doctorId,
+            @RequestParam String from,
+            @RequestParam String to
+    ) {
+        return appointmentStreamService.streamDoctorSchedule(doctorId, from, to);
+    }
+}
@@ -1,5 +1,6 @@
 package com.reservation.management.api.appointment.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -7,14 +8,40 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "appointments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Appointment.CACHE_REGION)
+@Table(
+        name = "appointments",
+        indexes = {
+                @Index(
+                        name = "idx_appointments_doctor_time",
+                        columnList = "doctor_id, appointment_time, appointment_end_time, status"
+                ),
+                @Index(name = "idx_appointments_updated_at", columnList = "updated_at")
+        }
+)
 public class Appointment {
 
+    /**
+     * 2차 캐시 엔티티 영역입니다. READ_WRITE 전략은 @Version 값을 비교해 오래된 캐시 항목이 덮어쓰지 않도록 합니다.
+     */
+    public static final String CACHE_REGION = "appointment";
+
+    /**
+     * 상태/기간 조회 결과를 담는 쿼리 캐시 영역입니다. appointments 테이블 변경 시 Hibernate가 자동 무효화합니다.
+     */
+    public static final String QUERY_CACHE_REGION = "appointment-query";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,13 +61,21 @@ public class Appointment {
     @Column(nullable = false)
     private LocalDateTime appointmentTime;
 
+    @Column(nullable = false)
+    private LocalDateTime appointmentEndTime;
+
     @Column(nullable = false)
     private Long doctorId;
 
     @Column(nullable = false)
     private int partySize;
 
+    /**
+     * DB 방언의 enum 컬럼 대신 VARCHAR로 매핑합니다. R2DBC 읽기 모델은 상태 조건을 문자열로 바인딩하므로,
+     * H2 enum 컬럼과는 비교할 수 없습니다.
+     */
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 20)
     private AppointmentStatus status;
 
@@ -104,6 +139,14 @@ public class Appointment {
         this.appointmentTime = appointmentTime;
     }
 
+    public LocalDateTime getAppointmentEndTime() {
+        return appointmentEndTime;
+    }
+
+    public void setAppointmentEndTime(LocalDateTime appointmentEndTime) {
+        this.appointmentEndTime = appointmentEndTime;
+    }
+
     public Long getDoctorId() {
         return doctorId;
     }
@@ -0,0 +1,22 @@
+package com.reservation.management.api.appointment.domain;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC 스트리밍 조회용 appointments 테이블 읽기 모델입니다.
+ * 쓰기는 JPA 엔티티({@link Appointment})로만 수행하고, 이 모델은 조회 응답에 필요한 컬럼만 매핑합니다.
+ */
+@Table("appointments")
+public record AppointmentView(
+        @Id
+        Long id,
+        String patientName,
+        LocalDateTime appointmentTime,
+        LocalDateTime appointmentEndTime,
+        Long doctorId,
+        int partySize,
+        AppointmentStatus status
+) {
+}
@@ -0,0 +1,28 @@
+package com.reservation.management.api.appointment.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 의사별 일정 변경(예약 생성, 대기 등록, 취소 후 승격)을 직렬화하기 위한 잠금 행입니다.
+ * 겹침 확인과 저장 사이에 다른 트랜잭션이 같은 의사의 예약을 끼워 넣지 못하도록 이 행을 비관적 쓰기 잠금으로 선점합니다.
+ */
+@Entity
+@Table(name = "doctor_schedule_locks")
+public class DoctorScheduleLock {
+
+    @Id
+    private Long doctorId;
+
+    protected DoctorScheduleLock() {
+    }
+
+    public DoctorScheduleLock(Long doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public Long getDoctorId() {
+        return doctorId;
+    }
+}
@@ -0,0 +1,158 @@
+package com.reservation.management.api.appointment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * 기존 활성 예약과 진료 구간이 겹쳐 바로 예약할 수 없는 시간대에 대한 대기 요청입니다.
+ * 대기 순서는 식별자 오름차순(선착순)이며, (doctor_id, appointment_time, status, id) 인덱스로
+ * 취소된 구간과 겹치는 대기 요청을 범위 조회하고, (status, appointment_time) 인덱스로 지난 대기를 만료합니다.
+ */
+@Entity
+@Table(
+        name = "waitlist_entries",
+        indexes = {
+                @Index(name = "idx_waitlist_slot_status", columnList = "doctor_id, appointment_time, status, id"),
+                @Index(name = "idx_waitlist_status_time", columnList = "status, appointment_time")
+        }
+)
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long doctorId;
+
+    @Column(nullable = false)
+    private LocalDateTime appointmentTime;
+
+    @Column(nullable = false)
+    private LocalDateTime appointmentEndTime;
+
+    @Column(nullable = false, length = 100)
+    private String patientName;
+
+    @Column(nullable = false)
+    private int partySize;
+
+    @Column(length = 20)
+    private String customerPhone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status;
+
+    private Long promotedAppointmentId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public WaitlistEntry() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(Long doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public LocalDateTime getAppointmentTime() {
+        return appointmentTime;
+    }
+
+    public void setAppointmentTime(LocalDateTime appointmentTime) {
+        this.appointmentTime = appointmentTime;
+    }
+
+    public LocalDateTime getAppointmentEndTime() {
+        return appointmentEndTime;
+    }
+
+    public void setAppointmentEndTime(LocalDateTime appointmentEndTime) {
+        this.appointmentEndTime = appointmentEndTime;
+    }
+
+    public String getPatientName() {
+        return patientName;
+    }
+
+    public void setPatientName(String patientName) {
+        this.patientName = patientName;
+    }
+
+    public int getPartySize() {
+        return partySize;
+    }
+
+    public void setPartySize(int partySize) {
+        this.partySize = partySize;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public void setCustomerPhone(String customerPhone) {
+        this.customerPhone = customerPhone;
+    }
+
+    public WaitlistStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WaitlistStatus status) {
+        this.status = status;
+    }
+
+    public Long getPromotedAppointmentId() {
+        return promotedAppointmentId;
+    }
+
+    public void setPromotedAppointmentId(Long promotedAppointmentId) {
+        this.promotedAppointmentId = promotedAppointmentId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
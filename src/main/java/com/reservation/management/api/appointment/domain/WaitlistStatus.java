@@ -0,0 +1,7 @@
+package com.reservation.management.api.appointment.domain;
+
+public enum WaitlistStatus {
+    WAITING,
+    PROMOTED,
+    EXPIRED
+}
@@ -0,0 +1,28 @@
+package com.reservation.management.api.appointment.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * 대량 동기화용 압축 응답입니다.
+ * 필드명을 반복하지 않도록 배열 형태로 직렬화하며, 시각은 Asia/Seoul 기준으로 변환한 epoch 초, 상태는 {@code AppointmentStatus} ordinal로 표현합니다.
+ * ordinal 호환을 위해 상태 enum에는 값을 끝에만 추가해야 합니다.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({
+        "appointmentId",
+        "patientName",
+        "appointmentEpochSecond",
+        "appointmentEndEpochSecond",
+        "partySize",
+        "statusOrdinal"
+})
+public record AppointmentCompactResponse(
+        Long appointmentId,
+        String patientName,
+        long appointmentEpochSecond,
+        long appointmentEndEpochSecond,
+        int partySize,
+        int statusOrdinal
+) {
+}
@@ -1,7 +1,9 @@
 package com.reservation.management.api.appointment.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public record AppointmentCreateRequest(
         String patientName,
@@ -11,6 +13,11 @@ public record AppointmentCreateRequest(
         Long doctorId,
         @NotNull
         @Min(1)
-        Integer partySize
+        Integer partySize,
+        @Min(1)
+        @Max(480)
+        Integer durationMinutes,
+        @Size(max = 20)
+        String customerPhone
 ) {
 }
@@ -4,6 +4,7 @@ public record AppointmentResponse(
         Long appointmentId,
         String patientName,
         String appointmentTime,
+        String appointmentEndTime,
         int partySize,
         String status
 ) {
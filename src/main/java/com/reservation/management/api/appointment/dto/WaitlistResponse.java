@@ -0,0 +1,10 @@
+package com.reservation.management.api.appointment.dto;
+
+public record WaitlistResponse(
+        Long waitlistId,
+        Long doctorId,
+        String appointmentTime,
+        long position,
+        String status
+) {
+}
@@ -0,0 +1,141 @@
+package com.reservation.management.api.appointment.index;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 아직 끝나지 않은 활성 예약으로 검색 메모리 색인을 채웁니다.
+ * 이 인스턴스의 생성/취소는 서비스 계층이 커밋 직후 반영하고, 다른 인스턴스의 변경은 수정 시각(updatedAt) 워터마크 이후
+ * 변경분을 주기적으로 읽어 반영합니다. 따라서 다른 인스턴스에서 만든 예약은 최대 갱신 주기만큼 늦게 검색됩니다.
+ * {@code appointment.index.async-load=true}이면 적재를 백그라운드 스레드에서 수행해 기동 완료 이벤트를 막지 않습니다.
+ * 적재 중에는 검색 결과가 일부만 나올 수 있으나, 일정 겹침은 색인과 무관하게 DB로 판단하므로 예약 정합성에는 영향이 없습니다.
+ * 주기 갱신이 등록되도록 지연 초기화(fast-startup) 환경에서도 즉시 생성합니다.
+ */
+@Component
+@Lazy(false)
+public class AppointmentIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentIndexInitializer.class);
+
+    private static final EnumSet<AppointmentStatus> INDEXED_STATUSES =
+            EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED);
+
+    /**
+     * 수정 시각을 기록한 뒤 늦게 커밋된 변경과 인스턴스 간 시계 차이를 놓치지 않도록 워터마크보다 이만큼 앞에서부터 다시 읽습니다.
+     * 다시 읽은 예약은 색인에서 같은 항목을 덮어쓰므로 중복 반영되어도 결과는 같습니다.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskExecutor taskExecutor;
+    private final boolean asyncLoad;
+
+    private volatile LocalDateTime refreshWatermark;
+
+    public AppointmentIndexInitializer(
+            AppointmentRepository appointmentRepository,
+            AppointmentSearchIndex searchIndex,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${appointment.index.async-load:false}") boolean asyncLoad
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.asyncLoad = asyncLoad;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (asyncLoad) {
+            taskExecutor.execute(this::loadIndexes);
+            return;
+        }
+        loadIndexes();
+    }
+
+    /**
+     * 색인을 비우지 않고 채웁니다. 적재와 동시에 처리된 생성/취소 반영분을 지우지 않기 위함이며,
+     * 이미 취소된 예약이 다시 들어가더라도 검색 응답은 DB 상태로 다시 걸러집니다.
+     */
+    public void loadIndexes() {
+        long startedAt = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Appointment> appointments = appointmentRepository.streamAllByAppointmentEndTimeAfterAndStatusIn(
+                    LocalDateTime.now(),
+                    INDEXED_STATUSES
+            )) {
+                appointments.forEach(appointment -> {
+                    searchIndex.add(appointment);
+                    entityManager.detach(appointment);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+
+        refreshWatermark = loadStartedAt;
+        log.info("Appointment indexes loaded: appointments={}, elapsedMs={}",
+                loaded.get(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 워터마크 이후 변경된 예약을 검색 색인에 반영하고, 예약 시각이 지난 항목을 정리합니다.
+     * 최초 적재가 끝나기 전에는 아무것도 하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${appointment.index.refresh-interval:5s}")
+    public void refreshSearchIndex() {
+        LocalDateTime since = refreshWatermark;
+        if (since == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Appointment> changed = appointmentRepository.streamAllByUpdatedAtAfter(
+                    since.minus(REFRESH_OVERLAP)
+            )) {
+                changed.forEach(appointment -> {
+                    if (INDEXED_STATUSES.contains(appointment.getStatus())
+                            && !appointment.getAppointmentTime().isBefore(now)) {
+                        searchIndex.add(appointment);
+                    } else {
+                        searchIndex.remove(appointment.getId());
+                    }
+                    entityManager.detach(appointment);
+                });
+            }
+        });
+
+        refreshWatermark = now;
+        searchIndex.pruneBefore(now);
+    }
+}
@@ -0,0 +1,356 @@
+package com.reservation.management.api.appointment.index;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성/예정 예약의 환자 이름과 연락처를 정확값, 접두어, n-gram 단위로 색인해 부분 검색을 지원합니다.
+ * 모든 포스팅은 (예약 시각, 예약 ID) 순으로 정렬되어 있어, 순위(정확 → 접두 → 부분 일치)별로 현재 시각 이후 구간만
+ * 앞에서부터 읽고 결과 수를 채우면 멈춥니다. 포스팅 전체를 복사하거나 모든 후보를 점수화하지 않습니다.
+ * 색인은 조회 가속용이며, 최종 상태 확인은 호출 측에서 DB 기준으로 수행합니다.
+ */
+@Component
+public class AppointmentSearchIndex {
+
+    private static final int MAX_PREFIX_LENGTH = 2;
+
+    /**
+     * 한 글자 성씨 검색은 의미가 있지만 숫자 한 자리는 후보가 너무 넓어 연락처는 2-gram부터 색인합니다.
+     * 숫자는 종류가 10개뿐이라 2-gram 포스팅도 전체의 수 %에 달하므로, 연락처는 4-gram을 함께 색인해
+     * 네 자리 이상 검색어가 수백 건 수준의 포스팅만 읽도록 합니다.
+     */
+    private static final int[] NAME_GRAM_LENGTHS = {1, 2};
+    private static final int[] PHONE_GRAM_LENGTHS = {2, 4};
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_CONTAINS = 2;
+
+    private final Map<Long, IndexedAppointment> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<PostingKey> byAppointmentTime = new ConcurrentSkipListSet<>();
+    private final FieldPostings namePostings = new FieldPostings(NAME_GRAM_LENGTHS, IndexedAppointment::name);
+    private final FieldPostings phonePostings = new FieldPostings(PHONE_GRAM_LENGTHS, IndexedAppointment::phone);
+
+    /**
+     * 예약을 색인에 추가하거나 기존 색인을 갱신합니다.
+     */
+    public synchronized void add(Appointment appointment) {
+        remove(appointment.getId());
+
+        IndexedAppointment entry = new IndexedAppointment(
+                new PostingKey(appointment.getAppointmentTime(), appointment.getId()),
+                normalizeText(appointment.getPatientName()),
+                normalizePhone(appointment.getCustomerPhone())
+        );
+        entries.put(entry.key().appointmentId(), entry);
+        byAppointmentTime.add(entry.key());
+        namePostings.add(entry);
+        phonePostings.add(entry);
+    }
+
+    /**
+     * 취소 등으로 검색 대상에서 빠진 예약을 색인에서 제거합니다.
+     */
+    public synchronized void remove(Long appointmentId) {
+        IndexedAppointment removed = entries.remove(appointmentId);
+        if (removed == null) {
+            return;
+        }
+        byAppointmentTime.remove(removed.key());
+        namePostings.remove(removed);
+        phonePostings.remove(removed);
+    }
+
+    /**
+     * 예약 시각이 now 이전인 예약을 색인에서 제거하고 제거 건수를 반환합니다.
+     * 검색은 지난 예약을 건너뛰지만, 정리하지 않으면 프로세스 수명 동안 색인이 계속 커집니다.
+     */
+    public synchronized int pruneBefore(LocalDateTime now) {
+        int pruned = 0;
+        for (PostingKey key : byAppointmentTime.headSet(new PostingKey(now, Long.MIN_VALUE))) {
+            remove(key.appointmentId());
+            pruned++;
+        }
+        return pruned;
+    }
+
+    /**
+     * 색인을 비웁니다. 재적재 전에 사용합니다.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        byAppointmentTime.clear();
+        namePostings.clear();
+        phonePostings.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 이름 또는 연락처에 검색어가 포함된 예정 예약 ID를 정확 일치, 접두 일치, 부분 일치 순으로 반환합니다.
+     * 같은 순위에서는 예약 시각이 빠른 순이며, 순위마다 남은 결과 수만큼만 읽습니다.
+     */
+    public List<Long> search(String query, int limit, LocalDateTime now) {
+        String nameQuery = normalizeText(query);
+        String phoneQuery = normalizePhone(query);
+        PostingKey from = new PostingKey(now, Long.MIN_VALUE);
+
+        List<Long> ranked = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        for (int rank = RANK_EXACT; rank <= RANK_CONTAINS && ranked.size() < limit; rank++) {
+            int remaining = limit - ranked.size();
+
+            // 이름/연락처 각각 시각 순 상위 remaining건을 모은 뒤 합쳐 같은 순위 안에서 다시 시각 순으로 정렬합니다.
+            List<PostingKey> matches = new ArrayList<>();
+            namePostings.collect(nameQuery, rank, from, remaining, seen, matches);
+            phonePostings.collect(phoneQuery, rank, from, remaining, seen, matches);
+            matches.sort(Comparator.naturalOrder());
+
+            for (PostingKey match : matches) {
+                if (ranked.size() == limit) {
+                    break;
+                }
+                if (seen.add(match.appointmentId())) {
+                    ranked.add(match.appointmentId());
+                }
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * 자모 분리 입력(NFD)과 조합형 입력(NFC)을 같게 취급하고, 공백과 대소문자를 무시합니다.
+     */
+    static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return composed.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 연락처는 숫자만 남겨 하이픈/공백 표기 차이를 무시합니다.
+     */
+    static String normalizePhone(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        return phone.replaceAll("\\D", "");
+    }
+
+    /**
+     * 한 필드(이름 또는 연락처)의 정확값/접두어/n-gram 포스팅입니다. 쓰기는 바깥 색인의 잠금 안에서만 수행합니다.
+     */
+    private final class FieldPostings {
+
+        private final int[] gramLengths;
+        private final int minGramLength;
+        private final Function<IndexedAppointment, String> valueOf;
+        private final Map<String, Posting> exact = new ConcurrentHashMap<>();
+        private final Map<String, Posting> prefixes = new ConcurrentHashMap<>();
+        private final Map<String, Posting> grams = new ConcurrentHashMap<>();
+
+        private FieldPostings(int[] gramLengths, Function<IndexedAppointment, String> valueOf) {
+            this.gramLengths = gramLengths;
+            this.minGramLength = gramLengths[0];
+            this.valueOf = valueOf;
+        }
+
+        private void add(IndexedAppointment entry) {
+            String value = valueOf.apply(entry);
+            if (value.length() < minGramLength) {
+                return;
+            }
+            exact.computeIfAbsent(value, key -> new Posting()).add(entry.key());
+            for (String prefix : prefixes(value)) {
+                prefixes.computeIfAbsent(prefix, key -> new Posting()).add(entry.key());
+            }
+            for (String gram : grams(value)) {
+                grams.computeIfAbsent(gram, key -> new Posting()).add(entry.key());
+            }
+        }
+
+        private void remove(IndexedAppointment entry) {
+            String value = valueOf.apply(entry);
+            if (value.length() < minGramLength) {
+                return;
+            }
+            removeFrom(exact, value, entry.key());
+            for (String prefix : prefixes(value)) {
+                removeFrom(prefixes, prefix, entry.key());
+            }
+            for (String gram : grams(value)) {
+                removeFrom(grams, gram, entry.key());
+            }
+        }
+
+        private void clear() {
+            exact.clear();
+            prefixes.clear();
+            grams.clear();
+        }
+
+        /**
+         * 주어진 순위에 해당하는 예약을 from 이후 시각 순으로 최대 remaining건 matches에 추가합니다.
+         */
+        private void collect(
+                String query,
+                int rank,
+                PostingKey from,
+                int remaining,
+                Set<Long> seen,
+                List<PostingKey> matches
+        ) {
+            if (query.length() < minGramLength) {
+                return;
+            }
+
+            Posting posting = switch (rank) {
+                case RANK_EXACT -> exact.get(query);
+                case RANK_PREFIX -> smaller(
+                        prefixes.get(query.substring(0, Math.min(query.length(), MAX_PREFIX_LENGTH))),
+                        smallestGramPosting(query)
+                );
+                default -> smallestGramPosting(query);
+            };
+            if (posting == null) {
+                return;
+            }
+
+            int collected = 0;
+            for (PostingKey key : posting.keys.tailSet(from, true)) {
+                if (collected == remaining) {
+                    return;
+                }
+                if (seen.contains(key.appointmentId())) {
+                    continue;
+                }
+                IndexedAppointment entry = entries.get(key.appointmentId());
+                if (entry == null || !matchesRank(valueOf.apply(entry), query, rank)) {
+                    continue;
+                }
+                matches.add(key);
+                collected++;
+            }
+        }
+
+        /**
+         * 접두/부분 일치 예약은 검색어의 모든 n-gram을 포함하므로, 검색어 길이 이하에서 가장 긴 n-gram 중
+         * 가장 짧은 포스팅 하나만 읽고 나머지는 원문 비교로 확인합니다.
+         */
+        private Posting smallestGramPosting(String query) {
+            int gramLength = minGramLength;
+            for (int length : gramLengths) {
+                if (length <= query.length()) {
+                    gramLength = length;
+                }
+            }
+
+            Posting smallest = null;
+            for (int i = 0; i + gramLength <= query.length(); i++) {
+                Posting posting = grams.get(query.substring(i, i + gramLength));
+                if (posting == null) {
+                    return null;
+                }
+                smallest = smallest == null ? posting : smaller(smallest, posting);
+            }
+            return smallest;
+        }
+
+        /**
+         * 접두 후보는 접두어 포스팅과 n-gram 포스팅 어느 쪽으로도 구할 수 있으므로 더 짧은 쪽을 고릅니다.
+         * 한쪽이라도 없으면(null) 조건을 모두 만족하는 예약이 없으므로 null을 반환합니다.
+         */
+        private Posting smaller(Posting left, Posting right) {
+            if (left == null || right == null) {
+                return null;
+            }
+            return right.size < left.size ? right : left;
+        }
+
+        private boolean matchesRank(String value, String query, int rank) {
+            return switch (rank) {
+                case RANK_EXACT -> value.equals(query);
+                case RANK_PREFIX -> value.startsWith(query) && !value.equals(query);
+                default -> value.contains(query) && !value.startsWith(query);
+            };
+        }
+
+        private Set<String> prefixes(String value) {
+            Set<String> prefixes = new LinkedHashSet<>();
+            for (int length = minGramLength; length <= Math.min(value.length(), MAX_PREFIX_LENGTH); length++) {
+                prefixes.add(value.substring(0, length));
+            }
+            return prefixes;
+        }
+
+        private Set<String> grams(String value) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int length : gramLengths) {
+                for (int i = 0; i + length <= value.length(); i++) {
+                    grams.add(value.substring(i, i + length));
+                }
+            }
+            return grams;
+        }
+
+        private void removeFrom(Map<String, Posting> postings, String token, PostingKey key) {
+            postings.computeIfPresent(token, (ignored, posting) -> {
+                posting.remove(key);
+                return posting.size == 0 ? null : posting;
+            });
+        }
+    }
+
+    /**
+     * 시각 순으로 정렬된 포스팅입니다. {@link ConcurrentSkipListSet#size()}는 전체를 세므로 크기는 따로 유지합니다.
+     */
+    private static final class Posting {
+
+        private final NavigableSet<PostingKey> keys = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        private void add(PostingKey key) {
+            if (keys.add(key)) {
+                size++;
+            }
+        }
+
+        private void remove(PostingKey key) {
+            if (keys.remove(key)) {
+                size--;
+            }
+        }
+    }
+
+    private record PostingKey(LocalDateTime appointmentTime, Long appointmentId) implements Comparable<PostingKey> {
+
+        private static final Comparator<PostingKey> ORDER = Comparator.comparing(PostingKey::appointmentTime)
+                .thenComparing(PostingKey::appointmentId);
+
+        @Override
+        public int compareTo(PostingKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record IndexedAppointment(PostingKey key, String name, String phone) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.reservation.management.api.appointment.repository;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.AppointmentView;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * R2DBC 기반 읽기 전용 리포지토리입니다. 저장 메서드를 노출하지 않도록 {@link Repository}만 상속합니다.
+ */
+public interface AppointmentReactiveRepository extends Repository<AppointmentView, Long> {
+
+    /**
+     * 전체 예약을 식별자 순으로 흘려보내 대시보드/동기화용 스트리밍 목록 조회를 지원합니다.
+     */
+    Flux<AppointmentView> findAllByOrderByIdAsc();
+
+    /**
+     * 의사별 기간 내 활성 예약을 시각 순으로 흘려보내 일정 화면 조회를 지원합니다.
+     */
+    Flux<AppointmentView> findAllByDoctorIdAndAppointmentTimeBetweenAndStatusInOrderByAppointmentTimeAsc(
+            Long doctorId,
+            LocalDateTime from,
+            LocalDateTime to,
+            Collection<AppointmentStatus> statuses
+    );
+}
@@ -2,13 +2,19 @@ package com.reservation.management.api.appointment.repository;
 
 import com.reservation.management.api.appointment.domain.Appointment;
 import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
 
@@ -21,30 +27,57 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     /**
      * 외부 노출용 예약번호 조회로 고객 조회 시 내부 PK 비노출 규칙을 지원합니다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Appointment.QUERY_CACHE_REGION)
+    })
     Optional<Appointment> findByAppointmentNumber(String appointmentNumber);
 
     /**
-     * 예약 시각에 활성 상태 예약이 존재하는지 확인해 중복 슬롯 차단 규칙을 지원합니다.
+     * 같은 의사의 활성 예약 중 [startTime, endTime) 구간과 겹치는 예약이 있는지 확인해 중복 슬롯 차단 규칙을 지원합니다.
+     * windowStart(startTime - 최대 진료 시간)로 시작 시각 범위를 제한해 (doctor_id, appointment_time) 인덱스 범위 스캔으로 처리합니다.
      */
-    boolean existsByDoctorIdAndAppointmentTimeAndStatusIn(
-            Long doctorId,
-            LocalDateTime appointmentTime,
-            Collection<AppointmentStatus> statuses
+    @Query("""
+            select count(a) > 0 from Appointment a
+            where a.doctorId = :doctorId
+              and a.status in :statuses
+              and a.appointmentTime > :windowStart
+              and a.appointmentTime < :endTime
+              and a.appointmentEndTime > :startTime
+            """)
+    boolean existsOverlappingAppointment(
+            @Param("doctorId") Long doctorId,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("statuses") Collection<AppointmentStatus> statuses
     );
 
     /**
      * 기간 기반 예약 조회로 운영 일정 확인 및 일자별 관리 규칙을 지원합니다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Appointment.QUERY_CACHE_REGION)
+    })
     List<Appointment> findAllByAppointmentTimeBetween(LocalDateTime from, LocalDateTime to);
 
     /**
      * 상태별 조회로 취소/확정/노쇼 등 생명주기 상태 관리 규칙을 지원합니다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Appointment.QUERY_CACHE_REGION)
+    })
     List<Appointment> findAllByStatus(AppointmentStatus status);
 
     /**
      * 기간과 상태 복합 조회로 관리자 필터 검색(예: 특정 기간의 확정 예약) 규칙을 지원합니다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Appointment.QUERY_CACHE_REGION)
+    })
     List<Appointment> findAllByAppointmentTimeBetweenAndStatusIn(
             LocalDateTime from,
             LocalDateTime to,
@@ -55,4 +88,26 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
      * 상태 집합 + 페이징 조회로 대량 관리자 목록 조회 및 성능 유지 규칙을 지원합니다.
      */
     Page<Appointment> findAllByStatusIn(Collection<AppointmentStatus> statuses, Pageable pageable);
+
+    /**
+     * 전체 예약을 프로젝션으로 커서 방식으로 흘려보내 대량 동기화 시 목록 전체를 메모리에 적재하지 않도록 지원합니다.
+     * 호출 측 트랜잭션이 열려 있는 동안에만 소비할 수 있습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AppointmentSummary> streamAllByOrderByIdAsc();
+
+    /**
+     * 아직 끝나지 않은 활성 예약을 커서 방식으로 읽어 기동 시 메모리 색인 적재를 지원합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Appointment> streamAllByAppointmentEndTimeAfterAndStatusIn(
+            LocalDateTime appointmentEndTime,
+            Collection<AppointmentStatus> statuses
+    );
+
+    /**
+     * 수정 시각 워터마크 이후 변경된 예약을 커서 방식으로 읽어, 다른 인스턴스에서 생성/취소된 예약을 메모리 색인에 반영하도록 지원합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Appointment> streamAllByUpdatedAtAfter(LocalDateTime updatedAt);
 }
@@ -0,0 +1,18 @@
+package com.reservation.management.api.appointment.repository;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 대량 스트리밍 조회용 DTO 프로젝션입니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않아, 스트림을 끝까지 읽어도 메모리가 테이블 크기에 비례해 늘지 않습니다.
+ */
+public record AppointmentSummary(
+        Long id,
+        String patientName,
+        LocalDateTime appointmentTime,
+        LocalDateTime appointmentEndTime,
+        int partySize,
+        AppointmentStatus status
+) {
+}
@@ -0,0 +1,19 @@
+package com.reservation.management.api.appointment.repository;
+
+import com.reservation.management.api.appointment.domain.DoctorScheduleLock;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DoctorScheduleLockRepository extends JpaRepository<DoctorScheduleLock, Long> {
+
+    /**
+     * 의사별 잠금 행을 SELECT ... FOR UPDATE로 읽어, 트랜잭션이 끝날 때까지 같은 의사의 일정 변경을 직렬화하도록 지원합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from DoctorScheduleLock l where l.doctorId = :doctorId")
+    Optional<DoctorScheduleLock> findForUpdate(@Param("doctorId") Long doctorId);
+}
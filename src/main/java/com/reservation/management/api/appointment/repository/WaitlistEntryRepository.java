@@ -0,0 +1,85 @@
+package com.reservation.management.api.appointment.repository;
+
+import com.reservation.management.api.appointment.domain.WaitlistEntry;
+import com.reservation.management.api.appointment.domain.WaitlistStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * 취소로 비워진 [startTime, endTime) 구간과 겹치는 대기 요청을 등록 순으로 조회해 취소 시 자동 승격 규칙을 지원합니다.
+     * windowStart(startTime - 최대 진료 시간)로 시작 시각 범위를 제한해 (doctor_id, appointment_time) 인덱스 범위 스캔으로 처리합니다.
+     */
+    @Query("""
+            select w from WaitlistEntry w
+            where w.doctorId = :doctorId
+              and w.status = :status
+              and w.appointmentTime > :windowStart
+              and w.appointmentTime < :endTime
+              and w.appointmentEndTime > :startTime
+            order by w.id asc
+            """)
+    List<WaitlistEntry> findOverlappingEntries(
+            @Param("doctorId") Long doctorId,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("status") WaitlistStatus status
+    );
+
+    /**
+     * 자신의 [startTime, endTime) 구간과 겹치면서 먼저 등록된 대기 요청 수로 대기 순번 안내 규칙을 지원합니다.
+     * 승격과 같은 겹침 조건과 등록 순서를 사용하므로, 시작 시각이 달라도 앞서 승격될 수 있는 대기를 모두 셉니다.
+     */
+    @Query("""
+            select count(w) from WaitlistEntry w
+            where w.doctorId = :doctorId
+              and w.status = :status
+              and w.appointmentTime > :windowStart
+              and w.appointmentTime < :endTime
+              and w.appointmentEndTime > :startTime
+              and w.id < :id
+            """)
+    long countOverlappingEntriesBefore(
+            @Param("doctorId") Long doctorId,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("status") WaitlistStatus status,
+            @Param("id") Long id
+    );
+
+    /**
+     * 같은 환자(이름, 연락처)가 같은 구간에 이미 대기 중인지 확인해 중복 대기 등록 차단 규칙을 지원합니다.
+     * 연락처가 없으면 연락처 없이 등록된 대기와 비교합니다.
+     */
+    boolean existsByDoctorIdAndPatientNameAndCustomerPhoneAndAppointmentTimeAndAppointmentEndTimeAndStatus(
+            Long doctorId,
+            String patientName,
+            String customerPhone,
+            LocalDateTime appointmentTime,
+            LocalDateTime appointmentEndTime,
+            WaitlistStatus status
+    );
+
+    /**
+     * 예약 시각이 지난 대기 요청을 일괄 만료해 승격될 수 없는 대기가 남지 않도록 지원합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update WaitlistEntry w
+            set w.status = :expired, w.updatedAt = :now, w.version = w.version + 1
+            where w.status = :waiting
+              and w.appointmentTime <= :now
+            """)
+    int expireWaitingEntries(
+            @Param("waiting") WaitlistStatus waiting,
+            @Param("expired") WaitlistStatus expired,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,26 @@
+package com.reservation.management.api.appointment.scheduler;
+
+import com.reservation.management.api.appointment.service.AppointmentService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 시각이 지난 대기 요청을 주기적으로 만료합니다.
+ * 지연 초기화(fast-startup) 환경에서도 스케줄이 등록되도록 즉시 생성합니다.
+ */
+@Component
+@Lazy(false)
+public class WaitlistExpirationScheduler {
+
+    private final AppointmentService appointmentService;
+
+    public WaitlistExpirationScheduler(AppointmentService appointmentService) {
+        this.appointmentService = appointmentService;
+    }
+
+    @Scheduled(cron = "${appointment.waitlist.expire-cron:0 */10 * * * *}")
+    public void expireWaitlist() {
+        appointmentService.expireWaitlist();
+    }
+}
@@ -1,8 +1,11 @@
 package com.reservation.management.api.appointment.service;
 
+import com.reservation.management.api.appointment.dto.AppointmentCompactResponse;
 import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
 import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.dto.WaitlistResponse;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 예약 유스케이스 계약입니다.
@@ -14,6 +17,11 @@ public interface AppointmentService {
      */
     AppointmentResponse createAppointment(AppointmentCreateRequest request);
 
+    /**
+     * 이미 예약된 시간대에 대기 등록합니다. 겹치는 예약이 취소되어 구간이 비면 선착순으로 자동 예약됩니다.
+     */
+    WaitlistResponse joinWaitlist(AppointmentCreateRequest request);
+
     /**
      * 예약 ID로 단건 예약을 조회합니다.
      */
@@ -25,7 +33,22 @@ public interface AppointmentService {
     List<AppointmentResponse> getAppointments();
 
     /**
-     * 기존 예약을 취소합니다.
+     * 전체 예약을 압축 응답으로 변환해 목록을 만들지 않고 한 건씩 전달합니다.
+     */
+    void streamAppointments(Consumer<AppointmentCompactResponse> consumer);
+
+    /**
+     * 환자 이름 또는 연락처 일부로 활성/예정 예약을 검색합니다.
+     */
+    List<AppointmentResponse> searchAppointments(String query, Integer limit);
+
+    /**
+     * 기존 예약을 취소하고, 비워진 구간과 겹치는 대기 요청을 선착순으로 예약으로 승격합니다.
      */
     AppointmentResponse cancelAppointment(Long appointmentId);
+
+    /**
+     * 예약 시각이 지난 대기 요청을 만료하고 만료 건수를 반환합니다.
+     */
+    int expireWaitlist();
 }
@@ -2,17 +2,33 @@ package com.reservation.management.api.appointment.service;
 
 import com.reservation.management.api.appointment.domain.Appointment;
 import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.WaitlistEntry;
+import com.reservation.management.api.appointment.domain.WaitlistStatus;
+import com.reservation.management.api.appointment.dto.AppointmentCompactResponse;
 import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
 import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.dto.WaitlistResponse;
+import com.reservation.management.api.appointment.index.AppointmentSearchIndex;
 import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import com.reservation.management.api.appointment.repository.AppointmentSummary;
+import com.reservation.management.api.appointment.repository.WaitlistEntryRepository;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -26,48 +42,126 @@ public class AppointmentServiceImpl implements AppointmentService {
 
     private static final String DEFAULT_CANCEL_REASON = "사용자 요청 취소";
 
+    /**
+     * 연락처 없이 접수된 예약의 저장값입니다. 숫자가 없어 연락처 검색 색인에는 들어가지 않습니다.
+     */
+    private static final String UNKNOWN_CUSTOMER_PHONE = "UNKNOWN";
+
+    private static final int MIN_PHONE_DIGITS = 9;
+
+    private static final int MAX_PHONE_DIGITS = 11;
+
+    /**
+     * 예약 시각은 DB 연결 시간대(Asia/Seoul) 기준 로컬 시각이므로, epoch 변환도 호스트 시간대와 무관하게 이 기준을 사용합니다.
+     */
+    private static final ZoneId APPOINTMENT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final int DEFAULT_DURATION_MINUTES = 30;
+
+    /**
+     * 겹침 조회 시 시작 시각 하한을 정하는 기준이므로 요청 DTO의 최대 진료 시간과 같아야 합니다.
+     */
+    private static final int MAX_DURATION_MINUTES = 480;
+
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final AppointmentRepository appointmentRepository;
 
-    public AppointmentServiceImpl(AppointmentRepository appointmentRepository) {
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final AppointmentSearchIndex searchIndex;
+
+    private final DoctorScheduleLocker scheduleLocker;
+
+    public AppointmentServiceImpl(
+            AppointmentRepository appointmentRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            AppointmentSearchIndex searchIndex,
+            DoctorScheduleLocker scheduleLocker
+    ) {
         this.appointmentRepository = appointmentRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.searchIndex = searchIndex;
+        this.scheduleLocker = scheduleLocker;
     }
 
     @Override
     public AppointmentResponse createAppointment(AppointmentCreateRequest request) {
         validateCreateRequest(request);
 
-        LocalDateTime appointmentTime = parseAppointmentTime(request.appointmentTime());
+        LocalDateTime appointmentTime = parseFutureAppointmentTime(request.appointmentTime());
+        LocalDateTime appointmentEndTime = appointmentTime.plusMinutes(resolveDurationMinutes(request.durationMinutes()));
 
-        if (!appointmentTime.isAfter(LocalDateTime.now())) {
-            throw new IllegalArgumentException("예약 시간은 현재 시각 이후여야 합니다.");
+        // 겹침 확인과 저장 사이에 다른 요청이 같은 의사의 구간을 차지하지 못하도록 커밋까지 의사 단위로 직렬화합니다.
+        scheduleLocker.lock(request.doctorId());
+        if (existsOverlappingAppointment(request.doctorId(), appointmentTime, appointmentEndTime)) {
+            throw new IllegalStateException("동일 시간대에 이미 활성 예약이 존재합니다.");
         }
 
-        boolean duplicated = appointmentRepository.existsByDoctorIdAndAppointmentTimeAndStatusIn(
+        Appointment saved = saveRequestedAppointment(
+                request.patientName().trim(),
+                normalizeCustomerPhone(request.customerPhone()),
                 request.doctorId(),
+                request.partySize(),
                 appointmentTime,
-                ACTIVE_STATUSES
+                appointmentEndTime
         );
-        if (duplicated) {
-            throw new IllegalStateException("동일 시간대에 이미 활성 예약이 존재합니다.");
+        return toResponse(saved);
+    }
+
+    @Override
+    public WaitlistResponse joinWaitlist(AppointmentCreateRequest request) {
+        validateCreateRequest(request);
+
+        LocalDateTime appointmentTime = parseFutureAppointmentTime(request.appointmentTime());
+        LocalDateTime appointmentEndTime = appointmentTime.plusMinutes(resolveDurationMinutes(request.durationMinutes()));
+
+        // 빈 슬롯에 대기가 남으면 승격 계기가 없으므로, 취소/승격과 직렬화한 뒤 DB 기준으로 판단합니다.
+        // 같은 잠금 아래에서 중복 대기 확인과 저장도 수행되므로 동시 중복 등록도 막힙니다.
+        scheduleLocker.lock(request.doctorId());
+        if (!existsOverlappingAppointment(request.doctorId(), appointmentTime, appointmentEndTime)) {
+            throw new IllegalStateException("예약 가능한 시간대입니다. 대기 대신 예약을 생성하세요.");
         }
 
-        Appointment appointment = new Appointment();
-        appointment.setAppointmentNumber(generateAppointmentNumber());
-        appointment.setPatientName(request.patientName().trim());
-        appointment.setCustomerPhone("UNKNOWN");
-        appointment.setCustomerEmail(null);
-        appointment.setAppointmentTime(appointmentTime);
-        appointment.setDoctorId(request.doctorId());
-        appointment.setPartySize(request.partySize());
-        appointment.setStatus(AppointmentStatus.REQUESTED);
-        appointment.setCancelReason(null);
+        String patientName = request.patientName().trim();
+        String customerPhone = normalizeCustomerPhone(request.customerPhone());
+        if (waitlistEntryRepository.existsByDoctorIdAndPatientNameAndCustomerPhoneAndAppointmentTimeAndAppointmentEndTimeAndStatus(
+                request.doctorId(),
+                patientName,
+                customerPhone,
+                appointmentTime,
+                appointmentEndTime,
+                WaitlistStatus.WAITING
+        )) {
+            throw new IllegalStateException("같은 시간대에 이미 대기 중입니다.");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setDoctorId(request.doctorId());
+        entry.setAppointmentTime(appointmentTime);
+        entry.setAppointmentEndTime(appointmentEndTime);
+        entry.setPatientName(patientName);
+        entry.setPartySize(request.partySize());
+        entry.setCustomerPhone(customerPhone);
+        entry.setStatus(WaitlistStatus.WAITING);
 
         LocalDateTime now = LocalDateTime.now();
-        appointment.setCreatedAt(now);
-        appointment.setUpdatedAt(now);
+        entry.setCreatedAt(now);
+        entry.setUpdatedAt(now);
 
-        Appointment saved = appointmentRepository.save(appointment);
-        return toResponse(saved);
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+        // 승격과 같은 겹침 조건으로 앞선 대기를 세므로, 시작 시각이 다른 대기도 순번에 포함됩니다.
+        long position = waitlistEntryRepository.countOverlappingEntriesBefore(
+                saved.getDoctorId(),
+                saved.getAppointmentTime().minusMinutes(MAX_DURATION_MINUTES),
+                saved.getAppointmentTime(),
+                saved.getAppointmentEndTime(),
+                WaitlistStatus.WAITING,
+                saved.getId()
+        ) + 1;
+        return toWaitlistResponse(saved, position);
     }
 
     @Override
@@ -86,6 +180,38 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAppointments(Consumer<AppointmentCompactResponse> consumer) {
+        try (Stream<AppointmentSummary> appointments = appointmentRepository.streamAllByOrderByIdAsc()) {
+            appointments.map(this::toCompactResponse).forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentResponse> searchAppointments(String query, Integer limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어는 필수입니다.");
+        }
+
+        List<Long> rankedIds = searchIndex.search(query, resolveSearchLimit(limit), LocalDateTime.now());
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인은 후보 선정에만 사용하고, 응답 상태는 DB 기준으로 다시 확인합니다.
+        Map<Long, Appointment> appointmentsById = appointmentRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(appointmentsById::get)
+                .filter(Objects::nonNull)
+                .filter(appointment -> ACTIVE_STATUSES.contains(appointment.getStatus()))
+                .map(this::toResponse)
+                .toList();
+    }
+
     @Override
     public AppointmentResponse cancelAppointment(Long appointmentId) {
         Appointment appointment = appointmentRepository.findById(appointmentId)
@@ -106,9 +232,95 @@ public class AppointmentServiceImpl implements AppointmentService {
         appointment.setUpdatedAt(LocalDateTime.now());
 
         Appointment saved = appointmentRepository.save(appointment);
+        runAfterCommit(() -> searchIndex.remove(saved.getId()));
+
+        promoteWaitlist(saved.getDoctorId(), saved.getAppointmentTime(), saved.getAppointmentEndTime());
         return toResponse(saved);
     }
 
+    @Override
+    public int expireWaitlist() {
+        return waitlistEntryRepository.expireWaitingEntries(
+                WaitlistStatus.WAITING,
+                WaitlistStatus.EXPIRED,
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 취소로 비워진 구간과 겹치는 대기 요청을 등록 순으로 확인해, 같은 트랜잭션에서 REQUESTED 예약으로 승격합니다.
+     * 승격도 예약 생성과 같은 의사 잠금 아래에서 수행해, 동시에 들어온 예약 생성과 같은 구간을 나눠 갖지 않도록 합니다.
+     * 예약 시각이 지난 대기는 만료하고, 다른 활성 예약과 여전히 겹치는 대기는 건너뛰어 뒤의 대기가 막히지 않도록 합니다.
+     */
+    private void promoteWaitlist(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        scheduleLocker.lock(doctorId);
+        List<WaitlistEntry> candidates = waitlistEntryRepository.findOverlappingEntries(
+                doctorId,
+                startTime.minusMinutes(MAX_DURATION_MINUTES),
+                startTime,
+                endTime,
+                WaitlistStatus.WAITING
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        for (WaitlistEntry entry : candidates) {
+            if (!entry.getAppointmentTime().isAfter(now)) {
+                entry.setStatus(WaitlistStatus.EXPIRED);
+                entry.setUpdatedAt(now);
+                waitlistEntryRepository.save(entry);
+                continue;
+            }
+
+            // 앞서 승격된 예약도 같은 트랜잭션에서 저장되어 있으므로 겹침 조회에 포함됩니다.
+            if (existsOverlappingAppointment(doctorId, entry.getAppointmentTime(), entry.getAppointmentEndTime())) {
+                continue;
+            }
+
+            Appointment promoted = saveRequestedAppointment(
+                    entry.getPatientName(),
+                    entry.getCustomerPhone(),
+                    entry.getDoctorId(),
+                    entry.getPartySize(),
+                    entry.getAppointmentTime(),
+                    entry.getAppointmentEndTime()
+            );
+
+            entry.setStatus(WaitlistStatus.PROMOTED);
+            entry.setPromotedAppointmentId(promoted.getId());
+            entry.setUpdatedAt(now);
+            waitlistEntryRepository.save(entry);
+        }
+    }
+
+    private Appointment saveRequestedAppointment(
+            String patientName,
+            String customerPhone,
+            Long doctorId,
+            int partySize,
+            LocalDateTime appointmentTime,
+            LocalDateTime appointmentEndTime
+    ) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentNumber(generateAppointmentNumber());
+        appointment.setPatientName(patientName);
+        appointment.setCustomerPhone(customerPhone == null ? UNKNOWN_CUSTOMER_PHONE : customerPhone);
+        appointment.setCustomerEmail(null);
+        appointment.setAppointmentTime(appointmentTime);
+        appointment.setAppointmentEndTime(appointmentEndTime);
+        appointment.setDoctorId(doctorId);
+        appointment.setPartySize(partySize);
+        appointment.setStatus(AppointmentStatus.REQUESTED);
+        appointment.setCancelReason(null);
+
+        LocalDateTime now = LocalDateTime.now();
+        appointment.setCreatedAt(now);
+        appointment.setUpdatedAt(now);
+
+        Appointment saved = appointmentRepository.save(appointment);
+        runAfterCommit(() -> searchIndex.add(saved));
+        return saved;
+    }
+
     private void validateCreateRequest(AppointmentCreateRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("예약 요청은 필수입니다.");
@@ -131,6 +343,54 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
     }
 
+    /**
+     * 연락처는 선택값이며, 입력된 경우 하이픈/공백을 허용하되 숫자 9~11자리여야 합니다. 숫자만 저장합니다.
+     */
+    private String normalizeCustomerPhone(String customerPhone) {
+        if (customerPhone == null || customerPhone.trim().isEmpty()) {
+            return null;
+        }
+
+        String digits = customerPhone.replaceAll("[\\s-]", "");
+        if (!digits.matches("\\d{" + MIN_PHONE_DIGITS + "," + MAX_PHONE_DIGITS + "}")) {
+            throw new IllegalArgumentException("연락처 형식이 올바르지 않습니다. 숫자 9~11자리를 입력하세요.");
+        }
+        return digits;
+    }
+
+    private int resolveDurationMinutes(Integer durationMinutes) {
+        if (durationMinutes == null) {
+            return DEFAULT_DURATION_MINUTES;
+        }
+
+        if (durationMinutes < 1 || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("진료 시간은 1분 이상 " + MAX_DURATION_MINUTES + "분 이하여야 합니다.");
+        }
+        return durationMinutes;
+    }
+
+    /**
+     * 겹침 여부는 (doctor_id, appointment_time, ...) 인덱스 범위 조회로 판단합니다. 호출 전에 의사 잠금을 잡아야 합니다.
+     */
+    private boolean existsOverlappingAppointment(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        return appointmentRepository.existsOverlappingAppointment(
+                doctorId,
+                startTime.minusMinutes(MAX_DURATION_MINUTES),
+                startTime,
+                endTime,
+                ACTIVE_STATUSES
+        );
+    }
+
+    private LocalDateTime parseFutureAppointmentTime(String appointmentTimeText) {
+        LocalDateTime appointmentTime = parseAppointmentTime(appointmentTimeText);
+
+        if (!appointmentTime.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("예약 시간은 현재 시각 이후여야 합니다.");
+        }
+        return appointmentTime;
+    }
+
     private LocalDateTime parseAppointmentTime(String appointmentTimeText) {
         try {
             return LocalDateTime.parse(appointmentTimeText.trim());
@@ -139,6 +399,34 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
     }
 
+    private int resolveSearchLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_SEARCH_LIMIT;
+        }
+
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("검색 결과 수는 1 이상 " + MAX_SEARCH_LIMIT + " 이하여야 합니다.");
+        }
+        return limit;
+    }
+
+    /**
+     * 메모리 색인은 롤백된 변경을 반영하지 않도록 커밋 이후에 갱신합니다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private String generateAppointmentNumber() {
         return "RSV-" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
     }
@@ -148,8 +436,34 @@ public class AppointmentServiceImpl implements AppointmentService {
                 appointment.getId(),
                 appointment.getPatientName(),
                 appointment.getAppointmentTime().toString(),
+                appointment.getAppointmentEndTime().toString(),
                 appointment.getPartySize(),
                 appointment.getStatus().name()
         );
     }
+
+    private WaitlistResponse toWaitlistResponse(WaitlistEntry entry, long position) {
+        return new WaitlistResponse(
+                entry.getId(),
+                entry.getDoctorId(),
+                entry.getAppointmentTime().toString(),
+                position,
+                entry.getStatus().name()
+        );
+    }
+
+    private AppointmentCompactResponse toCompactResponse(AppointmentSummary appointment) {
+        return new AppointmentCompactResponse(
+                appointment.id(),
+                appointment.patientName(),
+                toEpochSecond(appointment.appointmentTime()),
+                toEpochSecond(appointment.appointmentEndTime()),
+                appointment.partySize(),
+                appointment.status().ordinal()
+        );
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(APPOINTMENT_ZONE).toEpochSecond();
+    }
 }
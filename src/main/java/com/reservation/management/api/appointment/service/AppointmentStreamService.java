@@ -0,0 +1,20 @@
+package com.reservation.management.api.appointment.service;
+
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * 비동기 스트리밍 조회 유스케이스 계약입니다.
+ */
+public interface AppointmentStreamService {
+
+    /**
+     * 전체 예약 목록을 한 건씩 흘려보냅니다.
+     */
+    Flux<AppointmentResponse> streamAppointments();
+
+    /**
+     * 의사별 기간 내 활성 예약 일정을 시각 순으로 흘려보냅니다.
+     */
+    Flux<AppointmentResponse> streamDoctorSchedule(Long doctorId, String from, String to);
+}
@@ -0,0 +1,87 @@
+package com.reservation.management.api.appointment.service;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.AppointmentView;
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.repository.AppointmentReactiveRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * R2DBC 읽기 모델로 조회 결과를 스트리밍합니다.
+ * 요청 검증은 구독 전에 동기적으로 수행해 기존 예외 응답 규칙을 그대로 따르며, 쓰기 경로는 {@link AppointmentServiceImpl}이 담당합니다.
+ */
+@Service
+public class AppointmentStreamServiceImpl implements AppointmentStreamService {
+
+    private static final EnumSet<AppointmentStatus> ACTIVE_STATUSES =
+            EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED);
+
+    private static final Duration MAX_SCHEDULE_RANGE = Duration.ofDays(31);
+
+    private final AppointmentReactiveRepository appointmentReactiveRepository;
+
+    public AppointmentStreamServiceImpl(AppointmentReactiveRepository appointmentReactiveRepository) {
+        this.appointmentReactiveRepository = appointmentReactiveRepository;
+    }
+
+    @Override
+    public Flux<AppointmentResponse> streamAppointments() {
+        return appointmentReactiveRepository.findAllByOrderByIdAsc()
+                .map(this::toResponse);
+    }
+
+    @Override
+    public Flux<AppointmentResponse> streamDoctorSchedule(Long doctorId, String from, String to) {
+        if (doctorId == null || doctorId < 1) {
+            throw new IllegalArgumentException("doctorId is required.");
+        }
+
+        LocalDateTime fromTime = parseDateTime(from, "조회 시작 시각");
+        LocalDateTime toTime = parseDateTime(to, "조회 종료 시각");
+
+        if (!fromTime.isBefore(toTime)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+
+        if (Duration.between(fromTime, toTime).compareTo(MAX_SCHEDULE_RANGE) > 0) {
+            throw new IllegalArgumentException("일정 조회 기간은 최대 " + MAX_SCHEDULE_RANGE.toDays() + "일입니다.");
+        }
+
+        return appointmentReactiveRepository
+                .findAllByDoctorIdAndAppointmentTimeBetweenAndStatusInOrderByAppointmentTimeAsc(
+                        doctorId,
+                        fromTime,
+                        toTime,
+                        ACTIVE_STATUSES
+                )
+                .map(this::toResponse);
+    }
+
+    private LocalDateTime parseDateTime(String dateTimeText, String fieldName) {
+        if (dateTimeText == null || dateTimeText.trim().isEmpty()) {
+            throw new IllegalArgumentException(fieldName + "은 필수입니다.");
+        }
+
+        try {
+            return LocalDateTime.parse(dateTimeText.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(fieldName + " 형식이 올바르지 않습니다. ISO-8601 형식을 사용하세요.", e);
+        }
+    }
+
+    private AppointmentResponse toResponse(AppointmentView appointment) {
+        return new AppointmentResponse(
+                appointment.id(),
+                appointment.patientName(),
+                appointment.appointmentTime().toString(),
+                appointment.appointmentEndTime().toString(),
+                appointment.partySize(),
+                appointment.status().name()
+        );
+    }
+}
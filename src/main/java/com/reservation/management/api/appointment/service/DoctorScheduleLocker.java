@@ -0,0 +1,54 @@
+package com.reservation.management.api.appointment.service;
+
+import com.reservation.management.api.appointment.domain.DoctorScheduleLock;
+import com.reservation.management.api.appointment.repository.DoctorScheduleLockRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 호출 측 트랜잭션 안에서 의사별 잠금 행을 비관적 쓰기 잠금으로 선점합니다.
+ * 잠금은 트랜잭션 종료 시 풀리므로, 같은 의사에 대한 겹침 확인과 저장이 인스턴스와 무관하게 차례로 수행됩니다.
+ */
+@Component
+public class DoctorScheduleLocker {
+
+    private final DoctorScheduleLockRepository lockRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public DoctorScheduleLocker(DoctorScheduleLockRepository lockRepository, PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 호출 측 트랜잭션이 끝날 때까지 해당 의사의 일정 변경을 독점합니다. 트랜잭션 안에서만 호출해야 합니다.
+     */
+    public void lock(Long doctorId) {
+        if (!lockRepository.existsById(doctorId)) {
+            createLockRow(doctorId);
+        }
+        lockRepository.findForUpdate(doctorId)
+                .orElseThrow(() -> new IllegalStateException("의사 일정 잠금 행을 찾을 수 없습니다. doctorId=" + doctorId));
+    }
+
+    /**
+     * 잠금 행은 별도 트랜잭션에서 먼저 커밋해 둡니다. 없는 행을 FOR UPDATE로 읽으면 MySQL은 간격 잠금을 잡는데,
+     * 그 뒤 같은 트랜잭션이 별도 연결로 행을 넣으려 하면 자기 간격 잠금에 막히기 때문입니다.
+     * 그래서 존재 확인은 잠금 없는 읽기로 하고, 동시에 처음 등록해 한쪽이 키 중복으로 실패하면 이미 행이 생겼으므로 무시합니다.
+     */
+    private void createLockRow(Long doctorId) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (!lockRepository.existsById(doctorId)) {
+                    lockRepository.saveAndFlush(new DoctorScheduleLock(doctorId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 등록했습니다.
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reservation.management.api.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * JPA(쓰기/기존 조회)와 R2DBC(스트리밍 조회)를 함께 사용하기 위한 설정입니다.
+ * R2DBC ConnectionFactory가 있으면 DataSource 자동 설정이 비활성화되므로 DataSource를 직접 등록하고,
+ * 트랜잭션 매니저가 둘이 되므로 기존 @Transactional이 JPA 트랜잭션 매니저를 쓰도록 기본값으로 지정합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class PersistenceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
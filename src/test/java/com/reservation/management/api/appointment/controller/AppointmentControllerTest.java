@@ -0,0 +1,116 @@
+package com.reservation.management.api.appointment.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.reservation.management.api.appointment.dto.AppointmentCompactResponse;
+import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.service.AppointmentService;
+import com.reservation.management.api.global.config.SecurityConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(AppointmentController.class)
+@Import(SecurityConfig.class)
+class AppointmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AppointmentService appointmentService;
+
+    @Test
+    @DisplayName("목록 조회: Accept application/json이면 JSON 응답")
+    void getAppointments_returnsJson_whenAcceptIsJson() throws Exception {
+        when(appointmentService.getAppointments()).thenReturn(List.of(
+                new AppointmentResponse(1L, "홍길동", "2026-03-02T10:00", "2026-03-02T10:30", 2, "REQUESTED")
+        ));
+
+        mockMvc.perform(get("/api/appointments").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].appointmentId").value(1))
+                .andExpect(jsonPath("$[0].patientName").value("홍길동"))
+                .andExpect(jsonPath("$[0].status").value("REQUESTED"));
+    }
+
+    @Test
+    @DisplayName("목록 조회: Accept application/cbor이면 배열 형태 CBOR 응답")
+    void getAppointments_returnsCompactCbor_whenAcceptIsCbor() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AppointmentCompactResponse> consumer = invocation.getArgument(0);
+            consumer.accept(new AppointmentCompactResponse(1L, "홍길동", 1_772_413_200L, 1_772_415_000L, 2, 0));
+            consumer.accept(new AppointmentCompactResponse(2L, "김철수", 1_772_416_800L, 1_772_418_600L, 1, 2));
+            return null;
+        }).when(appointmentService).streamAppointments(any());
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/appointments").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 전역 비동기 제한 시간(120초)이 아닌 CBOR 출력 전용 제한 시간(기본 30분)을 적용합니다.
+        assertEquals(Duration.ofMinutes(30).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(2, body.size());
+        assertTrue(body.get(0).isArray());
+        assertEquals(1L, body.get(0).get(0).asLong());
+        assertEquals("홍길동", body.get(0).get(1).asText());
+        assertEquals(1_772_413_200L, body.get(0).get(2).asLong());
+        assertEquals(2, body.get(1).get(5).asInt());
+    }
+
+    @Test
+    @DisplayName("예약 생성: JSON 요청 본문을 JSON으로 읽고 응답")
+    void createAppointment_readsAndWritesJson() throws Exception {
+        when(appointmentService.createAppointment(any(AppointmentCreateRequest.class))).thenReturn(
+                new AppointmentResponse(1L, "홍길동", "2026-03-02T10:00", "2026-03-02T10:30", 2, "REQUESTED")
+        );
+
+        mockMvc.perform(post("/api/appointments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"patientName":"홍길동","appointmentTime":"2026-03-02T10:00","doctorId":1,"partySize":2}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.patientName").value("홍길동"));
+    }
+
+    @Test
+    @DisplayName("단건 조회: 숫자가 아닌 ID는 400 응답")
+    void getAppointment_returnsBadRequest_whenIdIsNotNumber() throws Exception {
+        mockMvc.perform(get("/api/appointments/stream").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+}
@@ -0,0 +1,114 @@
+package com.reservation.management.api.appointment.dto;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 기존 JSON 목록 응답과 CBOR 압축 응답의 전송 바이트/직렬화 시간을 비교합니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class AppointmentResponseFormatBenchmarkTest {
+
+    private static final int RECORD_COUNT = 50_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+    private static List<AppointmentResponse> jsonRecords;
+    private static List<AppointmentCompactResponse> compactRecords;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @BeforeAll
+    static void setUp() {
+        jsonRecords = new ArrayList<>(RECORD_COUNT);
+        compactRecords = new ArrayList<>(RECORD_COUNT);
+        LocalDateTime base = LocalDateTime.of(2026, 3, 2, 9, 0);
+        AppointmentStatus[] statuses = AppointmentStatus.values();
+
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            LocalDateTime appointmentTime = base.plusMinutes(30L * i);
+            LocalDateTime appointmentEndTime = appointmentTime.plusMinutes(30);
+            AppointmentStatus status = statuses[i % statuses.length];
+            String patientName = "환자" + i;
+            jsonRecords.add(new AppointmentResponse(
+                    (long) i,
+                    patientName,
+                    appointmentTime.toString(),
+                    appointmentEndTime.toString(),
+                    2,
+                    status.name()
+            ));
+            compactRecords.add(new AppointmentCompactResponse(
+                    (long) i,
+                    patientName,
+                    appointmentTime.atZone(ZoneId.of("Asia/Seoul")).toEpochSecond(),
+                    appointmentEndTime.atZone(ZoneId.of("Asia/Seoul")).toEpochSecond(),
+                    2,
+                    status.ordinal()
+            ));
+        }
+    }
+
+    @Test
+    @DisplayName("CBOR 압축 응답이 JSON 대비 전송 바이트가 작다")
+    void compareBytesOnTheWire() throws IOException {
+        byte[] json = jsonMapper.writeValueAsBytes(jsonRecords);
+        byte[] cbor = cborMapper.writeValueAsBytes(compactRecords);
+
+        System.out.printf("[bytes] json=%d json+gzip=%d cbor=%d cbor+gzip=%d%n",
+                json.length, gzip(json).length, cbor.length, gzip(cbor).length);
+
+        assertTrue(cbor.length < json.length);
+    }
+
+    @Test
+    @DisplayName("JSON/CBOR 직렬화 CPU 시간 비교")
+    void compareSerializationTime() throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            jsonMapper.writeValueAsBytes(jsonRecords);
+            cborMapper.writeValueAsBytes(compactRecords);
+        }
+
+        long jsonNanos = 0;
+        long cborNanos = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            jsonMapper.writeValueAsBytes(jsonRecords);
+            jsonNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            cborMapper.writeValueAsBytes(compactRecords);
+            cborNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[serialize] records=%d json=%.2fms cbor=%.2fms (avg of %d rounds)%n",
+                RECORD_COUNT,
+                jsonNanos / 1_000_000.0 / MEASURE_ROUNDS,
+                cborNanos / 1_000_000.0 / MEASURE_ROUNDS,
+                MEASURE_ROUNDS);
+    }
+
+    private byte[] gzip(byte[] source) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        }
+        return buffer.toByteArray();
+    }
+}
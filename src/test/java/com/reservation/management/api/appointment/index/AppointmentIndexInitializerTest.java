@@ -0,0 +1,74 @@
+package com.reservation.management.api.appointment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 서비스 계층을 거치지 않고 저장한 예약(다른 인스턴스의 변경)이 주기 갱신으로 검색 색인에 반영되는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class AppointmentIndexInitializerTest {
+
+    @Autowired
+    private AppointmentIndexInitializer indexInitializer;
+
+    @Autowired
+    private AppointmentSearchIndex searchIndex;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAll();
+        searchIndex.clear();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 생성/취소된 예약을 주기 갱신으로 반영")
+    void refreshSearchIndex_appliesChangesMadeElsewhere() {
+        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        Appointment saved = appointmentRepository.save(appointment("RSV-REFRESH01", appointmentTime));
+
+        indexInitializer.refreshSearchIndex();
+
+        assertEquals(List.of(saved.getId()), searchIndex.search("5678", 10, LocalDateTime.now()));
+
+        saved.setStatus(AppointmentStatus.CANCELED);
+        saved.setUpdatedAt(LocalDateTime.now());
+        appointmentRepository.save(saved);
+
+        indexInitializer.refreshSearchIndex();
+
+        assertTrue(searchIndex.search("5678", 10, LocalDateTime.now()).isEmpty());
+    }
+
+    private Appointment appointment(String appointmentNumber, LocalDateTime appointmentTime) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentNumber(appointmentNumber);
+        appointment.setPatientName("홍길동");
+        appointment.setCustomerPhone("01012345678");
+        appointment.setAppointmentTime(appointmentTime);
+        appointment.setAppointmentEndTime(appointmentTime.plusMinutes(30));
+        appointment.setDoctorId(1L);
+        appointment.setPartySize(1);
+        appointment.setStatus(AppointmentStatus.REQUESTED);
+        LocalDateTime now = LocalDateTime.now();
+        appointment.setCreatedAt(now);
+        appointment.setUpdatedAt(now);
+        return appointment;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reservation.management.api.appointment.index;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 100만 건 색인에서 검색어 유형별 지연 시간을 측정합니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class AppointmentSearchIndexBenchmarkTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int ROUNDS = 200;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_SYLLABLES = {"민", "서", "지", "현", "준", "우", "하", "은", "도", "윤", "수", "영"};
+
+    private static AppointmentSearchIndex searchIndex;
+
+    @BeforeAll
+    static void setUp() {
+        searchIndex = new AppointmentSearchIndex();
+        Random random = new Random(42);
+
+        for (long id = 1; id <= ROW_COUNT; id++) {
+            Appointment appointment = new Appointment();
+            ReflectionTestUtils.setField(appointment, "id", id);
+            appointment.setPatientName(FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+                    + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                    + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]);
+            appointment.setCustomerPhone(String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)));
+            appointment.setAppointmentTime(NOW.plusMinutes(random.nextInt(60 * 24 * 90)));
+            appointment.setStatus(AppointmentStatus.REQUESTED);
+            searchIndex.add(appointment);
+        }
+    }
+
+    @Test
+    @DisplayName("검색어 유형별 지연 시간 (p50/p99)")
+    void measureSearchLatency() {
+        for (String query : List.of("김", "김민", "김민서", "1234", "010-1234-5678")) {
+            long[] nanos = new long[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                long start = System.nanoTime();
+                searchIndex.search(query, 20, NOW);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+
+            System.out.printf("[search] rows=%d q=%s p50=%.3fms p99=%.3fms%n",
+                    ROW_COUNT,
+                    query,
+                    nanos[ROUNDS / 2] / 1_000_000.0,
+                    nanos[ROUNDS * 99 / 100] / 1_000_000.0);
+        }
+    }
+}
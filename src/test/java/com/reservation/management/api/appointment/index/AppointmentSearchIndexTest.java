@@ -0,0 +1,111 @@
+package com.reservation.management.api.appointment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AppointmentSearchIndexTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private AppointmentSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new AppointmentSearchIndex();
+    }
+
+    @Test
+    @DisplayName("정확 일치, 접두 일치, 부분 일치 순으로 정렬")
+    void search_ranksExactThenPrefixThenContains() {
+        searchIndex.add(appointment(1L, "이홍길", "UNKNOWN", now.plusHours(1)));
+        searchIndex.add(appointment(2L, "홍길동", "UNKNOWN", now.plusHours(2)));
+        searchIndex.add(appointment(3L, "홍길", "UNKNOWN", now.plusHours(3)));
+
+        assertEquals(List.of(3L, 2L, 1L), searchIndex.search("홍길", 10, now));
+    }
+
+    @Test
+    @DisplayName("자모 분리 입력과 공백을 정규화해 검색")
+    void search_normalizesDecomposedHangulAndWhitespace() {
+        searchIndex.add(appointment(1L, "홍길동", "UNKNOWN", now.plusHours(1)));
+
+        String decomposedQuery = Normalizer.normalize("홍 길", Normalizer.Form.NFD);
+
+        assertEquals(List.of(1L), searchIndex.search(decomposedQuery, 10, now));
+    }
+
+    @Test
+    @DisplayName("연락처는 하이픈을 무시하고 숫자로 검색")
+    void search_matchesPhoneDigitsIgnoringHyphen() {
+        searchIndex.add(appointment(1L, "Kim", "010-1234-5678", now.plusHours(1)));
+
+        assertEquals(List.of(1L), searchIndex.search("1234-56", 10, now));
+        assertEquals(List.of(1L), searchIndex.search("KI", 10, now));
+        assertTrue(searchIndex.search("unknown", 10, now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("지난 예약 제외, 결과 수 제한")
+    void search_excludesPastAndAppliesLimit() {
+        searchIndex.add(appointment(1L, "홍길동", "UNKNOWN", now.minusHours(1)));
+        searchIndex.add(appointment(2L, "홍길동", "UNKNOWN", now.plusHours(1)));
+        searchIndex.add(appointment(3L, "홍길동", "UNKNOWN", now.plusHours(2)));
+
+        assertEquals(List.of(2L), searchIndex.search("홍길동", 1, now));
+    }
+
+    @Test
+    @DisplayName("제거된 예약은 검색되지 않음")
+    void remove_excludesFromSearch() {
+        searchIndex.add(appointment(1L, "홍길동", "UNKNOWN", now.plusHours(1)));
+
+        searchIndex.remove(1L);
+
+        assertTrue(searchIndex.search("홍", 10, now).isEmpty());
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("같은 순위에서는 이름/연락처 일치를 합쳐 예약 시각 순으로 정렬")
+    void search_mergesNameAndPhoneMatchesByAppointmentTime() {
+        searchIndex.add(appointment(1L, "Kim12", "UNKNOWN", now.plusHours(3)));
+        searchIndex.add(appointment(2L, "Lee", "12-3456-7890", now.plusHours(1)));
+        searchIndex.add(appointment(3L, "Park", "12-9999-0000", now.plusHours(2)));
+
+        assertEquals(List.of(2L, 3L), searchIndex.search("12", 2, now));
+    }
+
+    @Test
+    @DisplayName("지난 예약 정리")
+    void pruneBefore_removesPastAppointments() {
+        searchIndex.add(appointment(1L, "홍길동", "010-1111-2222", now.minusHours(2)));
+        searchIndex.add(appointment(2L, "홍길순", "010-3333-4444", now.minusMinutes(1)));
+        searchIndex.add(appointment(3L, "홍길자", "010-5555-6666", now.plusHours(1)));
+
+        assertEquals(2, searchIndex.pruneBefore(now));
+
+        assertEquals(1, searchIndex.size());
+        assertEquals(List.of(3L), searchIndex.search("홍길", 10, now.minusHours(3)));
+        assertTrue(searchIndex.search("1111", 10, now.minusHours(3)).isEmpty());
+    }
+
+    private Appointment appointment(Long id, String patientName, String customerPhone, LocalDateTime appointmentTime) {
+        Appointment appointment = new Appointment();
+        ReflectionTestUtils.setField(appointment, "id", id);
+        appointment.setPatientName(patientName);
+        appointment.setCustomerPhone(customerPhone);
+        appointment.setAppointmentTime(appointmentTime);
+        appointment.setStatus(AppointmentStatus.REQUESTED);
+        return appointment;
+    }
+}
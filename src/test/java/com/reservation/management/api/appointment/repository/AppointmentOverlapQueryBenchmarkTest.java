@@ -0,0 +1,174 @@
+package com.reservation.management.api.appointment.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예약 생성 시 겹침 판단에 쓰는 {@link AppointmentRepository#existsOverlappingAppointment} 범위 조회를
+ * 시작 시각 하한(windowStart) 없이 같은 조건을 조회하는 경우와 비교하고, idx_appointments_doctor_time 사용 여부를 확인합니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AppointmentOverlapQueryBenchmarkTest {
+
+    private static final int DOCTOR_COUNT = 50;
+    private static final int APPOINTMENTS_PER_DOCTOR = 4_000;
+    private static final int SLOT_MINUTES = 30;
+    private static final int MAX_DURATION_MINUTES = 480;
+    private static final int PROBES = 1_000;
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    private static final EnumSet<AppointmentStatus> ACTIVE_STATUSES =
+            EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED);
+
+    private static final String BOUNDED_OVERLAP_SQL = """
+            select count(*) from appointments
+            where doctor_id = ? and status in ('REQUESTED', 'CONFIRMED')
+              and appointment_time > ? and appointment_time < ? and appointment_end_time > ?
+            """;
+
+    private static final String UNBOUNDED_OVERLAP_SQL = """
+            select count(*) from appointments
+            where doctor_id = ? and status in ('REQUESTED', 'CONFIRMED')
+              and appointment_time < ? and appointment_end_time > ?
+            """;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from appointments");
+    }
+
+    @Test
+    @DisplayName("겹침 조회 시간: windowStart 범위 조회 vs 하한 없는 조회")
+    void compareBoundedAndUnboundedOverlapQuery() {
+        seed();
+
+        String plan = jdbcTemplate.queryForObject("""
+                explain select count(*) from appointments
+                where doctor_id = 1 and status in ('REQUESTED', 'CONFIRMED')
+                  and appointment_time > timestamp '2026-01-01 01:00:00'
+                  and appointment_time < timestamp '2026-01-01 10:00:00'
+                  and appointment_end_time > timestamp '2026-01-01 09:00:00'
+                """, String.class);
+        System.out.println("[overlap-query] plan=" + plan.replaceAll("\\s+", " "));
+        assertTrue(plan.toUpperCase(Locale.ROOT).contains("IDX_APPOINTMENTS_DOCTOR_TIME"));
+
+        Random random = new Random(42);
+        List<LocalDateTime> probes = new ArrayList<>(PROBES);
+        List<Long> doctorIds = new ArrayList<>(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            doctorIds.add(1L + random.nextInt(DOCTOR_COUNT));
+            probes.add(BASE.plusMinutes((long) random.nextInt(APPOINTMENTS_PER_DOCTOR * 2) * SLOT_MINUTES));
+        }
+
+        // JIT와 쿼리 계획 캐시가 자리 잡은 뒤 측정하도록 한 번 먼저 실행합니다.
+        measure(doctorIds, probes);
+        long[][] nanos = measure(doctorIds, probes);
+
+        System.out.printf(
+                "[overlap-query] rows=%d repository p50=%s p99=%s | bounded-sql p50=%s p99=%s | unbounded-sql p50=%s p99=%s%n",
+                DOCTOR_COUNT * APPOINTMENTS_PER_DOCTOR,
+                percentile(nanos[0], 50), percentile(nanos[0], 99),
+                percentile(nanos[1], 50), percentile(nanos[1], 99),
+                percentile(nanos[2], 50), percentile(nanos[2], 99));
+    }
+
+    /**
+     * 리포지토리 호출(JPA 트랜잭션 포함), 같은 조건의 windowStart 범위 SQL, 하한 없는 SQL 순으로 각 탐침의 소요 시간을 잽니다.
+     */
+    private long[][] measure(List<Long> doctorIds, List<LocalDateTime> probes) {
+        long[][] nanos = new long[3][PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            Long doctorId = doctorIds.get(i);
+            LocalDateTime startTime = probes.get(i);
+            LocalDateTime endTime = startTime.plusMinutes(SLOT_MINUTES);
+            LocalDateTime windowStart = startTime.minusMinutes(MAX_DURATION_MINUTES);
+
+            long start = System.nanoTime();
+            boolean repository = appointmentRepository.existsOverlappingAppointment(
+                    doctorId, windowStart, startTime, endTime, ACTIVE_STATUSES
+            );
+            nanos[0][i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Long bounded = jdbcTemplate.queryForObject(
+                    BOUNDED_OVERLAP_SQL, Long.class,
+                    doctorId, Timestamp.valueOf(windowStart), Timestamp.valueOf(endTime), Timestamp.valueOf(startTime)
+            );
+            nanos[1][i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Long unbounded = jdbcTemplate.queryForObject(
+                    UNBOUNDED_OVERLAP_SQL, Long.class, doctorId, Timestamp.valueOf(endTime), Timestamp.valueOf(startTime)
+            );
+            nanos[2][i] = System.nanoTime() - start;
+
+            assertEquals(unbounded > 0, repository);
+            assertEquals(unbounded > 0, bounded > 0);
+        }
+        return nanos;
+    }
+
+    private String percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("%.3fms", sorted[PROBES * percentile / 100] / 1_000_000.0);
+    }
+
+    /**
+     * 의사마다 한 칸씩 건너 예약을 배치해 빈 슬롯과 찬 슬롯이 번갈아 나오도록 합니다.
+     */
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(APPOINTMENTS_PER_DOCTOR);
+        long sequence = 0;
+        for (long doctorId = 1; doctorId <= DOCTOR_COUNT; doctorId++) {
+            rows.clear();
+            for (int i = 0; i < APPOINTMENTS_PER_DOCTOR; i++) {
+                LocalDateTime startTime = BASE.plusMinutes(2L * SLOT_MINUTES * i);
+                rows.add(new Object[]{
+                        "RSV-BENCH" + sequence++,
+                        "환자",
+                        "UNKNOWN",
+                        Timestamp.valueOf(startTime),
+                        Timestamp.valueOf(startTime.plusMinutes(SLOT_MINUTES)),
+                        doctorId,
+                        AppointmentStatus.REQUESTED.name(),
+                        Timestamp.valueOf(now),
+                        Timestamp.valueOf(now)
+                });
+            }
+            jdbcTemplate.batchUpdate("""
+                    insert into appointments (appointment_number, patient_name, customer_phone, appointment_time,
+                        appointment_end_time, doctor_id, party_size, status, created_at, updated_at, version)
+                    values (?, ?, ?, ?, ?, ?, 1, ?, ?, ?, 0)
+                    """, rows);
+        }
+    }
+}
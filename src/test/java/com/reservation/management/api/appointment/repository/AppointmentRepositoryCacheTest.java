@@ -0,0 +1,117 @@
+package com.reservation.management.api.appointment.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reservation.management.api.appointment.domain.Appointment;
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.index.AppointmentSearchIndex;
+import com.reservation.management.api.appointment.service.AppointmentService;
+import com.reservation.management.api.appointment.service.AppointmentServiceImpl;
+import com.reservation.management.api.appointment.service.DoctorScheduleLocker;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * mysql 프로필과 같은 2차/쿼리 캐시 설정으로, 취소 커밋 이후 캐시 경유 재조회가 새 상태와 버전을 돌려주는지 확인합니다.
+ * 캐시는 트랜잭션 경계를 넘어 동작하므로 테스트 트랜잭션(롤백)을 끄고 각 호출을 개별 커밋합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({AppointmentServiceImpl.class, AppointmentSearchIndex.class, DoctorScheduleLocker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AppointmentRepositoryCacheTest {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private AppointmentSearchIndex searchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitlistEntryRepository.deleteAll();
+        appointmentRepository.deleteAll();
+        searchIndex.clear();
+    }
+
+    @Test
+    @DisplayName("취소 후 캐시 경유 재조회: findById, findAllByStatus, findByAppointmentNumber 모두 새 상태와 버전 반환")
+    void cachedReads_reflectCancellation() {
+        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        AppointmentResponse created = appointmentService.createAppointment(
+                new AppointmentCreateRequest("홍길동", appointmentTime.toString(), 1L, 2, 30, null)
+        );
+        Long appointmentId = created.appointmentId();
+
+        Appointment beforeCancel = appointmentRepository.findById(appointmentId).orElseThrow();
+        String appointmentNumber = beforeCancel.getAppointmentNumber();
+        Long versionBeforeCancel = beforeCancel.getVersion();
+        assertEquals(List.of(appointmentId), ids(appointmentRepository.findAllByStatus(AppointmentStatus.REQUESTED)));
+        assertEquals(appointmentId, appointmentRepository.findByAppointmentNumber(appointmentNumber).orElseThrow().getId());
+
+        // 같은 조회를 반복하면 엔티티/쿼리 캐시에서 응답합니다.
+        appointmentRepository.findById(appointmentId).orElseThrow();
+        appointmentRepository.findAllByStatus(AppointmentStatus.REQUESTED);
+        appointmentRepository.findByAppointmentNumber(appointmentNumber).orElseThrow();
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+
+        appointmentService.cancelAppointment(appointmentId);
+
+        Appointment byId = appointmentRepository.findById(appointmentId).orElseThrow();
+        assertEquals(AppointmentStatus.CANCELED, byId.getStatus());
+        assertEquals(versionBeforeCancel + 1, byId.getVersion());
+
+        assertTrue(appointmentRepository.findAllByStatus(AppointmentStatus.REQUESTED).isEmpty());
+        List<Appointment> canceled = appointmentRepository.findAllByStatus(AppointmentStatus.CANCELED);
+        assertEquals(List.of(appointmentId), ids(canceled));
+        assertEquals(versionBeforeCancel + 1, canceled.get(0).getVersion());
+
+        Appointment byNumber = appointmentRepository.findByAppointmentNumber(appointmentNumber).orElseThrow();
+        assertEquals(AppointmentStatus.CANCELED, byNumber.getStatus());
+        assertEquals(versionBeforeCancel + 1, byNumber.getVersion());
+    }
+
+    private List<Long> ids(List<Appointment> appointments) {
+        return appointments.stream().map(Appointment::getId).toList();
+    }
+}
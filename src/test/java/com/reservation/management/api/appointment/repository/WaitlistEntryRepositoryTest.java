@@ -0,0 +1,90 @@
+package com.reservation.management.api.appointment.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reservation.management.api.appointment.domain.WaitlistEntry;
+import com.reservation.management.api.appointment.domain.WaitlistStatus;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class WaitlistEntryRepositoryTest {
+
+    private static final LocalDateTime TEN_O_CLOCK = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Test
+    @DisplayName("대기 순번: 시작 시각이 달라도 구간이 겹치는 앞선 대기만 셈")
+    void countOverlappingEntriesBefore_countsEarlierOverlappingEntries() {
+        // 10:00-11:00 구간과 겹침: 09:30-10:30(앞), 10:30-11:00(앞). 겹치지 않음: 11:00-11:30, 다른 의사, 승격된 대기
+        save(1L, "김민서", null, TEN_O_CLOCK.minusMinutes(30), 60, WaitlistStatus.WAITING);
+        save(1L, "이서준", null, TEN_O_CLOCK.plusMinutes(30), 30, WaitlistStatus.WAITING);
+        save(1L, "박지우", null, TEN_O_CLOCK.plusMinutes(60), 30, WaitlistStatus.WAITING);
+        save(2L, "최하은", null, TEN_O_CLOCK, 60, WaitlistStatus.WAITING);
+        save(1L, "정도윤", null, TEN_O_CLOCK, 60, WaitlistStatus.PROMOTED);
+        WaitlistEntry mine = save(1L, "홍길동", null, TEN_O_CLOCK, 60, WaitlistStatus.WAITING);
+        save(1L, "강수영", null, TEN_O_CLOCK, 60, WaitlistStatus.WAITING);
+
+        long before = waitlistEntryRepository.countOverlappingEntriesBefore(
+                1L,
+                TEN_O_CLOCK.minusMinutes(480),
+                TEN_O_CLOCK,
+                TEN_O_CLOCK.plusMinutes(60),
+                WaitlistStatus.WAITING,
+                mine.getId()
+        );
+
+        assertEquals(2L, before);
+    }
+
+    @Test
+    @DisplayName("중복 대기 확인: 연락처가 없으면 연락처 없는 대기와 비교")
+    void existsDuplicate_matchesNullPhone() {
+        save(1L, "홍길동", null, TEN_O_CLOCK, 30, WaitlistStatus.WAITING);
+        save(1L, "김민서", "01012345678", TEN_O_CLOCK, 30, WaitlistStatus.WAITING);
+
+        assertTrue(existsWaiting("홍길동", null, 30));
+        assertTrue(existsWaiting("김민서", "01012345678", 30));
+        assertFalse(existsWaiting("김민서", null, 30));
+        assertFalse(existsWaiting("홍길동", null, 60));
+    }
+
+    private boolean existsWaiting(String patientName, String customerPhone, int durationMinutes) {
+        return waitlistEntryRepository.existsByDoctorIdAndPatientNameAndCustomerPhoneAndAppointmentTimeAndAppointmentEndTimeAndStatus(
+                1L,
+                patientName,
+                customerPhone,
+                TEN_O_CLOCK,
+                TEN_O_CLOCK.plusMinutes(durationMinutes),
+                WaitlistStatus.WAITING
+        );
+    }
+
+    private WaitlistEntry save(
+            Long doctorId,
+            String patientName,
+            String customerPhone,
+            LocalDateTime startTime,
+            int durationMinutes,
+            WaitlistStatus status
+    ) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setDoctorId(doctorId);
+        entry.setPatientName(patientName);
+        entry.setCustomerPhone(customerPhone);
+        entry.setAppointmentTime(startTime);
+        entry.setAppointmentEndTime(startTime.plusMinutes(durationMinutes));
+        entry.setPartySize(1);
+        entry.setStatus(status);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return waitlistEntryRepository.save(entry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.reservation.management.api.appointment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
+import com.reservation.management.api.appointment.index.AppointmentSearchIndex;
+import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 같은 의사의 같은 구간에 동시에 들어온 예약 생성이 의사 잠금으로 직렬화되어 하나만 저장되는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class AppointmentServiceConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 4;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentSearchIndex searchIndex;
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAll();
+        searchIndex.clear();
+    }
+
+    @Test
+    @DisplayName("동시 예약 생성: 같은 구간은 하나만 저장되고 나머지는 겹침으로 거절")
+    void createAppointment_concurrentRequestsForSameSlot_onlyOneSucceeds() throws Exception {
+        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        CountDownLatch ready = new CountDownLatch(REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                String patientName = "환자" + i;
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return appointmentService.createAppointment(
+                            new AppointmentCreateRequest(patientName, appointmentTime.toString(), 1L, 1, 30, null)
+                    );
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof IllegalStateException)) {
+                        throw e;
+                    }
+                    rejected++;
+                }
+            }
+
+            assertEquals(1, succeeded);
+            assertEquals(REQUEST_COUNT - 1, rejected);
+            assertEquals(1, appointmentRepository.findAllByStatus(AppointmentStatus.REQUESTED).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
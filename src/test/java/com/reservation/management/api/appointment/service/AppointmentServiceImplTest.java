@@ -6,17 +6,27 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.reservation.management.api.appointment.domain.Appointment;
 import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.WaitlistEntry;
+import com.reservation.management.api.appointment.domain.WaitlistStatus;
+import com.reservation.management.api.appointment.dto.AppointmentCompactResponse;
 import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
 import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.dto.WaitlistResponse;
+import com.reservation.management.api.appointment.index.AppointmentSearchIndex;
 import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import com.reservation.management.api.appointment.repository.AppointmentSummary;
+import com.reservation.management.api.appointment.repository.WaitlistEntryRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -36,22 +47,38 @@ class AppointmentServiceImplTest {
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private DoctorScheduleLocker scheduleLocker;
+
+    private AppointmentSearchIndex searchIndex;
+
     private AppointmentServiceImpl appointmentService;
 
     @BeforeEach
     void setUp() {
-        appointmentService = new AppointmentServiceImpl(appointmentRepository);
+        searchIndex = new AppointmentSearchIndex();
+        appointmentService = new AppointmentServiceImpl(
+                appointmentRepository,
+                waitlistEntryRepository,
+                searchIndex,
+                scheduleLocker
+        );
     }
 
     @Test
     @DisplayName("예약 생성 성공")
     void createAppointment_success_savesAsRequested() {
         LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
-        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 2);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 2, null, null);
 
-        when(appointmentRepository.existsByDoctorIdAndAppointmentTimeAndStatusIn(
+        when(appointmentRepository.existsOverlappingAppointment(
                 eq(1L),
+                eq(futureTime.minusMinutes(480)),
                 eq(futureTime),
+                eq(futureTime.plusMinutes(30)),
                 eq(EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED))
         )).thenReturn(false);
 
@@ -66,15 +93,53 @@ class AppointmentServiceImplTest {
         assertEquals(1L, response.appointmentId());
         assertEquals("홍길동", response.patientName());
         assertEquals(2, response.partySize());
+        assertEquals(futureTime.plusMinutes(30).toString(), response.appointmentEndTime());
         assertEquals("REQUESTED", response.status());
         verify(appointmentRepository).save(any(Appointment.class));
     }
 
+    @Test
+    @DisplayName("예약 생성 성공: 입력한 연락처를 숫자로 저장하고 연락처 검색 색인에 반영")
+    void createAppointment_success_indexesCustomerPhone() {
+        LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest(
+                "홍길동", futureTime.toString(), 1L, 2, null, "010-1234-5678"
+        );
+
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 2L);
+            assertEquals("01012345678", saved.getCustomerPhone());
+            return saved;
+        });
+
+        appointmentService.createAppointment(request);
+
+        assertEquals(List.of(2L), searchIndex.search("1234-5678", 10, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("예약 생성 실패: 연락처 형식 오류")
+    void createAppointment_fail_whenCustomerPhoneIsInvalid() {
+        LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest(
+                "홍길동", futureTime.toString(), 1L, 2, null, "010-12"
+        );
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> appointmentService.createAppointment(request)
+        );
+
+        assertTrue(exception.getMessage().contains("연락처"));
+        verify(appointmentRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("예약 생성 실패: 과거 시간")
     void createAppointment_fail_whenAppointmentTimeIsPast() {
         LocalDateTime pastTime = LocalDateTime.now().minusMinutes(1);
-        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", pastTime.toString(), 1L, 2);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", pastTime.toString(), 1L, 2, null, null);
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
@@ -82,7 +147,7 @@ class AppointmentServiceImplTest {
         );
 
         assertTrue(exception.getMessage().contains("예약 시간"));
-        verify(appointmentRepository, never()).existsByDoctorIdAndAppointmentTimeAndStatusIn(any(), any(), any());
+        verify(appointmentRepository, never()).existsOverlappingAppointment(any(), any(), any(), any(), any());
         verify(appointmentRepository, never()).save(any());
     }
 
@@ -90,11 +155,13 @@ class AppointmentServiceImplTest {
     @DisplayName("예약 생성 실패: 동일 시간 중복")
     void createAppointment_fail_whenActiveAppointmentExistsAtSameTime() {
         LocalDateTime futureTime = LocalDateTime.now().plusHours(3);
-        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 2);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 2, 60, null);
 
-        when(appointmentRepository.existsByDoctorIdAndAppointmentTimeAndStatusIn(
+        when(appointmentRepository.existsOverlappingAppointment(
                 eq(1L),
+                eq(futureTime.minusMinutes(480)),
                 eq(futureTime),
+                eq(futureTime.plusMinutes(60)),
                 eq(EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED))
         )).thenReturn(true);
 
@@ -107,11 +174,42 @@ class AppointmentServiceImplTest {
         verify(appointmentRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("예약 생성: 의사 잠금을 잡은 뒤 겹침을 확인하고 저장")
+    void createAppointment_locksDoctorBeforeOverlapCheck() {
+        LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 3L, 1, 30, null);
+
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any())).thenReturn(false);
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 51L);
+            return saved;
+        });
+
+        appointmentService.createAppointment(request);
+
+        InOrder inOrder = inOrder(scheduleLocker, appointmentRepository);
+        inOrder.verify(scheduleLocker).lock(3L);
+        inOrder.verify(appointmentRepository).existsOverlappingAppointment(any(), any(), any(), any(), any());
+        inOrder.verify(appointmentRepository).save(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("예약 생성 실패: 진료 시간 범위 초과")
+    void createAppointment_fail_whenDurationExceedsMaximum() {
+        LocalDateTime futureTime = LocalDateTime.now().plusHours(3);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 1, 481, null);
+
+        assertThrows(IllegalArgumentException.class, () -> appointmentService.createAppointment(request));
+        verify(appointmentRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("예약 생성 실패: partySize가 1 미만")
     void createAppointment_fail_whenPartySizeLessThanOne() {
         LocalDateTime futureTime = LocalDateTime.now().plusHours(3);
-        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 0);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", futureTime.toString(), 1L, 0, null, null);
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
@@ -140,6 +238,204 @@ class AppointmentServiceImplTest {
         verify(appointmentRepository).save(appointment);
     }
 
+    @Test
+    @DisplayName("예약 취소 시 대기열 선두를 REQUESTED 예약으로 승격")
+    void cancelAppointment_promotesWaitlistHead() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        Appointment appointment = createAppointment(60L, AppointmentStatus.CONFIRMED, slotTime);
+        WaitlistEntry head = createWaitlistEntry(7L, slotTime);
+
+        when(appointmentRepository.findById(60L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", 61L);
+            }
+            return saved;
+        });
+        when(waitlistEntryRepository.findOverlappingEntries(
+                1L,
+                slotTime.minusMinutes(480),
+                slotTime,
+                slotTime.plusMinutes(30),
+                WaitlistStatus.WAITING
+        )).thenReturn(List.of(head));
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any())).thenReturn(false);
+
+        appointmentService.cancelAppointment(60L);
+
+        assertEquals(WaitlistStatus.PROMOTED, head.getStatus());
+        assertEquals(61L, head.getPromotedAppointmentId());
+        verify(waitlistEntryRepository).save(head);
+        verify(scheduleLocker).lock(1L);
+    }
+
+    @Test
+    @DisplayName("예약 취소 시 시작 시각이 다르더라도 비워진 구간과 겹치는 대기를 승격")
+    void cancelAppointment_promotesWaitlistEntryStartingInsideCanceledInterval() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        Appointment appointment = createAppointment(62L, AppointmentStatus.REQUESTED, slotTime);
+        appointment.setAppointmentEndTime(slotTime.plusMinutes(60));
+        WaitlistEntry entry = createWaitlistEntry(10L, slotTime.plusMinutes(30));
+
+        when(appointmentRepository.findById(62L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", 63L);
+            }
+            return saved;
+        });
+        when(waitlistEntryRepository.findOverlappingEntries(
+                1L,
+                slotTime.minusMinutes(480),
+                slotTime,
+                slotTime.plusMinutes(60),
+                WaitlistStatus.WAITING
+        )).thenReturn(List.of(entry));
+
+        appointmentService.cancelAppointment(62L);
+
+        assertEquals(WaitlistStatus.PROMOTED, entry.getStatus());
+        assertEquals(63L, entry.getPromotedAppointmentId());
+    }
+
+    @Test
+    @DisplayName("대기열 선두의 진료 구간이 다른 예약과 겹치면 건너뛰고 다음 대기를 승격")
+    void cancelAppointment_skipsBlockedHeadAndPromotesNext() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        Appointment appointment = createAppointment(70L, AppointmentStatus.REQUESTED, slotTime);
+        appointment.setAppointmentEndTime(slotTime.plusMinutes(60));
+        WaitlistEntry blockedHead = createWaitlistEntry(8L, slotTime);
+        WaitlistEntry next = createWaitlistEntry(11L, slotTime.plusMinutes(30));
+
+        when(appointmentRepository.findById(70L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", 71L);
+            }
+            return saved;
+        });
+        when(waitlistEntryRepository.findOverlappingEntries(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(blockedHead, next));
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> slotTime.equals(invocation.getArgument(2)));
+
+        appointmentService.cancelAppointment(70L);
+
+        assertEquals(WaitlistStatus.WAITING, blockedHead.getStatus());
+        assertEquals(WaitlistStatus.PROMOTED, next.getStatus());
+        assertEquals(71L, next.getPromotedAppointmentId());
+        verify(waitlistEntryRepository, never()).save(blockedHead);
+        verify(waitlistEntryRepository).save(next);
+    }
+
+    @Test
+    @DisplayName("예약 시각이 지난 대기는 승격하지 않고 만료한 뒤 다음 대기를 승격")
+    void cancelAppointment_expiresPastEntriesAndPromotesNext() {
+        LocalDateTime pastTime = LocalDateTime.now().minusMinutes(10);
+        Appointment appointment = createAppointment(80L, AppointmentStatus.REQUESTED, pastTime);
+        appointment.setAppointmentEndTime(pastTime.plusMinutes(60));
+        WaitlistEntry expired = createWaitlistEntry(12L, pastTime);
+        WaitlistEntry upcoming = createWaitlistEntry(13L, pastTime.plusMinutes(30));
+
+        when(appointmentRepository.findById(80L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                ReflectionTestUtils.setField(saved, "id", 81L);
+            }
+            return saved;
+        });
+        when(waitlistEntryRepository.findOverlappingEntries(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(expired, upcoming));
+
+        appointmentService.cancelAppointment(80L);
+
+        assertEquals(WaitlistStatus.EXPIRED, expired.getStatus());
+        assertEquals(WaitlistStatus.PROMOTED, upcoming.getStatus());
+        assertEquals(81L, upcoming.getPromotedAppointmentId());
+        verify(waitlistEntryRepository).save(expired);
+        verify(appointmentRepository, never()).existsOverlappingAppointment(any(), any(), eq(pastTime), any(), any());
+    }
+
+    @Test
+    @DisplayName("지난 대기 일괄 만료")
+    void expireWaitlist_expiresWaitingEntriesBeforeNow() {
+        when(waitlistEntryRepository.expireWaitingEntries(eq(WaitlistStatus.WAITING), eq(WaitlistStatus.EXPIRED), any()))
+                .thenReturn(3);
+
+        assertEquals(3, appointmentService.expireWaitlist());
+    }
+
+    @Test
+    @DisplayName("대기 등록 성공: 승격과 같은 겹침 조건으로 앞선 대기를 세어 순번 부여")
+    void joinWaitlist_success_whenSlotIsTaken() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", slotTime.toString(), 1L, 1, null, null);
+
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any())).thenReturn(true);
+        when(waitlistEntryRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> {
+            WaitlistEntry saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 9L);
+            return saved;
+        });
+        when(waitlistEntryRepository.countOverlappingEntriesBefore(
+                1L,
+                slotTime.minusMinutes(480),
+                slotTime,
+                slotTime.plusMinutes(30),
+                WaitlistStatus.WAITING,
+                9L
+        )).thenReturn(2L);
+
+        WaitlistResponse response = appointmentService.joinWaitlist(request);
+
+        assertEquals(9L, response.waitlistId());
+        assertEquals(3L, response.position());
+        assertEquals("WAITING", response.status());
+    }
+
+    @Test
+    @DisplayName("대기 등록 실패: 같은 환자가 같은 구간에 이미 대기 중")
+    void joinWaitlist_fail_whenSamePatientAlreadyWaitsForSameInterval() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest(
+                " 홍길동 ", slotTime.toString(), 1L, 1, null, "010-1234-5678"
+        );
+
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any())).thenReturn(true);
+        when(waitlistEntryRepository.existsByDoctorIdAndPatientNameAndCustomerPhoneAndAppointmentTimeAndAppointmentEndTimeAndStatus(
+                1L,
+                "홍길동",
+                "01012345678",
+                slotTime,
+                slotTime.plusMinutes(30),
+                WaitlistStatus.WAITING
+        )).thenReturn(true);
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> appointmentService.joinWaitlist(request)
+        );
+
+        assertTrue(exception.getMessage().contains("이미 대기 중"));
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대기 등록 실패: 예약 가능한 슬롯")
+    void joinWaitlist_fail_whenSlotIsFree() {
+        LocalDateTime slotTime = LocalDateTime.now().plusDays(1);
+        AppointmentCreateRequest request = new AppointmentCreateRequest("홍길동", slotTime.toString(), 1L, 1, null, null);
+
+        when(appointmentRepository.existsOverlappingAppointment(any(), any(), any(), any(), any())).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> appointmentService.joinWaitlist(request));
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
     @ParameterizedTest(name = "예약 취소 실패: {0} 상태")
     @MethodSource("nonCancelableStatuses")
     void cancelAppointment_fail_whenStatusIsFinalized(AppointmentStatus finalizedStatus) {
@@ -155,6 +451,66 @@ class AppointmentServiceImplTest {
         verify(appointmentRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("압축 목록 스트리밍: 호스트 시간대와 무관하게 Asia/Seoul 기준 epoch 초와 상태 ordinal로 변환")
+    void streamAppointments_convertsToCompactResponse() {
+        LocalDateTime appointmentTime = LocalDateTime.of(2026, 3, 2, 10, 0);
+        AppointmentSummary requested = new AppointmentSummary(
+                1L, "테스트", appointmentTime, appointmentTime.plusMinutes(30), 2, AppointmentStatus.REQUESTED);
+        AppointmentSummary canceled = new AppointmentSummary(
+                2L, "테스트", appointmentTime, appointmentTime.plusMinutes(30), 2, AppointmentStatus.CANCELED);
+        when(appointmentRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(requested, canceled));
+
+        List<AppointmentCompactResponse> received = new ArrayList<>();
+        appointmentService.streamAppointments(received::add);
+
+        assertEquals(2, received.size());
+        assertEquals(1L, received.get(0).appointmentId());
+        // 2026-03-02T10:00+09:00 == 2026-03-02T01:00Z
+        assertEquals(1_772_413_200L, received.get(0).appointmentEpochSecond());
+        assertEquals(1_772_413_200L + 30 * 60, received.get(0).appointmentEndEpochSecond());
+        assertEquals(AppointmentStatus.REQUESTED.ordinal(), received.get(0).statusOrdinal());
+        assertEquals(AppointmentStatus.CANCELED.ordinal(), received.get(1).statusOrdinal());
+    }
+
+    @Test
+    @DisplayName("예약 검색: 색인 후보 중 DB 기준 활성 예약만 반환")
+    void searchAppointments_returnsOnlyActiveAppointments() {
+        Appointment active = createAppointment(30L, AppointmentStatus.REQUESTED, LocalDateTime.now().plusDays(1));
+        Appointment canceledInDb = createAppointment(31L, AppointmentStatus.REQUESTED, LocalDateTime.now().plusDays(2));
+        searchIndex.add(active);
+        searchIndex.add(canceledInDb);
+        canceledInDb.setStatus(AppointmentStatus.CANCELED);
+
+        when(appointmentRepository.findAllById(List.of(30L, 31L))).thenReturn(List.of(active, canceledInDb));
+
+        List<AppointmentResponse> responses = appointmentService.searchAppointments("테스", null);
+
+        assertEquals(1, responses.size());
+        assertEquals(30L, responses.get(0).appointmentId());
+    }
+
+    @Test
+    @DisplayName("예약 취소 시 검색 색인에서 제거")
+    void cancelAppointment_removesFromSearchIndex() {
+        Appointment appointment = createAppointment(40L, AppointmentStatus.CONFIRMED, LocalDateTime.now().plusDays(1));
+        searchIndex.add(appointment);
+
+        when(appointmentRepository.findById(40L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        appointmentService.cancelAppointment(40L);
+
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("예약 검색 실패: 빈 검색어")
+    void searchAppointments_fail_whenQueryIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> appointmentService.searchAppointments("  ", null));
+        verify(appointmentRepository, never()).findAllById(any());
+    }
+
     private static Stream<Arguments> nonCancelableStatuses() {
         return Stream.of(
                 Arguments.of(AppointmentStatus.CANCELED),
@@ -170,6 +526,7 @@ class AppointmentServiceImplTest {
         appointment.setCustomerPhone("010-0000-0000");
         appointment.setCustomerEmail("test@example.com");
         appointment.setAppointmentTime(appointmentTime);
+        appointment.setAppointmentEndTime(appointmentTime.plusMinutes(30));
         appointment.setDoctorId(1L);
         appointment.setPartySize(2);
         appointment.setStatus(status);
@@ -178,4 +535,18 @@ class AppointmentServiceImplTest {
         appointment.setUpdatedAt(LocalDateTime.now().minusHours(1));
         return appointment;
     }
-}
\ No newline at end of file
+
+    private WaitlistEntry createWaitlistEntry(Long id, LocalDateTime appointmentTime) {
+        WaitlistEntry entry = new WaitlistEntry();
+        ReflectionTestUtils.setField(entry, "id", id);
+        entry.setDoctorId(1L);
+        entry.setAppointmentTime(appointmentTime);
+        entry.setAppointmentEndTime(appointmentTime.plusMinutes(30));
+        entry.setPatientName("대기자");
+        entry.setPartySize(1);
+        entry.setStatus(WaitlistStatus.WAITING);
+        entry.setCreatedAt(LocalDateTime.now().minusHours(1));
+        entry.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        return entry;
+    }
+}
@@ -0,0 +1,130 @@
+package com.reservation.management.api.appointment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.AppointmentView;
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.repository.AppointmentReactiveRepository;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentStreamServiceImplTest {
+
+    @Mock
+    private AppointmentReactiveRepository appointmentReactiveRepository;
+
+    private AppointmentStreamServiceImpl appointmentStreamService;
+
+    @BeforeEach
+    void setUp() {
+        appointmentStreamService = new AppointmentStreamServiceImpl(appointmentReactiveRepository);
+    }
+
+    @Test
+    @DisplayName("전체 예약 스트리밍: 식별자 순으로 응답 변환")
+    void streamAppointments_success() {
+        LocalDateTime appointmentTime = LocalDateTime.of(2026, 3, 2, 10, 0);
+        AppointmentView first = new AppointmentView(
+                1L,
+                "홍길동",
+                appointmentTime,
+                appointmentTime.plusMinutes(30),
+                3L,
+                2,
+                AppointmentStatus.REQUESTED
+        );
+        AppointmentView second = new AppointmentView(
+                2L,
+                "김철수",
+                appointmentTime.plusHours(1),
+                appointmentTime.plusHours(1).plusMinutes(30),
+                3L,
+                1,
+                AppointmentStatus.CANCELED
+        );
+
+        when(appointmentReactiveRepository.findAllByOrderByIdAsc()).thenReturn(Flux.just(first, second));
+
+        List<AppointmentResponse> responses = appointmentStreamService.streamAppointments()
+                .collectList()
+                .block();
+
+        assertEquals(2, responses.size());
+        assertEquals(1L, responses.get(0).appointmentId());
+        assertEquals("2026-03-02T10:00", responses.get(0).appointmentTime());
+        assertEquals(2, responses.get(0).partySize());
+        assertEquals(2L, responses.get(1).appointmentId());
+        assertEquals("CANCELED", responses.get(1).status());
+    }
+
+    @Test
+    @DisplayName("의사 일정 스트리밍: 기간 내 활성 예약을 응답으로 변환")
+    void streamDoctorSchedule_success() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 2, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        AppointmentView view = new AppointmentView(
+                1L,
+                "홍길동",
+                from.plusHours(10),
+                from.plusHours(10).plusMinutes(30),
+                3L,
+                1,
+                AppointmentStatus.CONFIRMED
+        );
+
+        when(appointmentReactiveRepository.findAllByDoctorIdAndAppointmentTimeBetweenAndStatusInOrderByAppointmentTimeAsc(
+                3L,
+                from,
+                to,
+                EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED)
+        )).thenReturn(Flux.just(view));
+
+        List<AppointmentResponse> responses = appointmentStreamService
+                .streamDoctorSchedule(3L, from.toString(), to.toString())
+                .collectList()
+                .block();
+
+        assertEquals(1, responses.size());
+        assertEquals("2026-03-02T10:30", responses.get(0).appointmentEndTime());
+        assertEquals("CONFIRMED", responses.get(0).status());
+    }
+
+    @Test
+    @DisplayName("의사 일정 스트리밍 실패: 조회 기간 초과")
+    void streamDoctorSchedule_fail_whenRangeExceedsMaximum() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> appointmentStreamService.streamDoctorSchedule(3L, from.toString(), from.plusDays(32).toString())
+        );
+        verify(appointmentReactiveRepository, never())
+                .findAllByDoctorIdAndAppointmentTimeBetweenAndStatusInOrderByAppointmentTimeAsc(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("의사 일정 스트리밍 실패: 시작 시각이 종료 시각 이후")
+    void streamDoctorSchedule_fail_whenFromIsNotBeforeTo() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> appointmentStreamService.streamDoctorSchedule(3L, from.toString(), from.toString())
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.reservation.management.api.global.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("헬스 체크는 외부에서도 조회 가능")
+    void health_isPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(request -> {
+                    request.setRemoteAddr("203.0.113.10");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("메트릭은 외부 주소에서 조회 시 거절")
+    void metrics_isForbidden_fromRemoteAddress() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRemoteAddr("203.0.113.10");
+                    return request;
+                }))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("메트릭은 같은 호스트에서 조회 가능")
+    void metrics_isAllowed_fromLoopback() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRemoteAddr("127.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,110 @@
+package com.reservation.management.api.global.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.reservation.management.api.appointment.domain.AppointmentStatus;
+import com.reservation.management.api.appointment.domain.AppointmentView;
+import com.reservation.management.api.appointment.dto.AppointmentCreateRequest;
+import com.reservation.management.api.appointment.dto.AppointmentResponse;
+import com.reservation.management.api.appointment.repository.AppointmentReactiveRepository;
+import com.reservation.management.api.appointment.repository.AppointmentRepository;
+import com.reservation.management.api.appointment.service.AppointmentService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * h2 프로필에서 JPA(DataSource)와 R2DBC(ConnectionFactory)가 함께 기동되고 같은 DB를 바라보는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class PersistenceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentReactiveRepository appointmentReactiveRepository;
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("JPA와 R2DBC가 함께 기동되고 @Transactional 기본 트랜잭션 매니저는 JPA")
+    void contextLoads_withJpaAndR2dbc() {
+        assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals("H2", connectionFactory.getMetadata().getName());
+        assertInstanceOf(JpaTransactionManager.class, transactionManager);
+    }
+
+    @Test
+    @DisplayName("JPA로 저장한 예약을 R2DBC 읽기 모델로 조회")
+    void reactiveRepository_readsRowsWrittenThroughJpa() {
+        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        AppointmentResponse created = appointmentService.createAppointment(
+                new AppointmentCreateRequest("홍길동", appointmentTime.toString(), 1L, 2, 30, null)
+        );
+
+        List<AppointmentView> views = appointmentReactiveRepository.findAllByOrderByIdAsc()
+                .collectList()
+                .block();
+
+        assertEquals(1, views.size());
+        assertEquals(created.appointmentId(), views.get(0).id());
+        assertEquals(appointmentTime, views.get(0).appointmentTime());
+        assertEquals(appointmentTime.plusMinutes(30), views.get(0).appointmentEndTime());
+    }
+
+    @Test
+    @DisplayName("의사 일정 조회: 상태 조건을 포함한 R2DBC 조회가 JPA로 만든 스키마에서 동작")
+    void reactiveRepository_findsDoctorScheduleByStatus() {
+        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        AppointmentResponse active = appointmentService.createAppointment(
+                new AppointmentCreateRequest("홍길동", appointmentTime.toString(), 1L, 2, 30, null)
+        );
+        AppointmentResponse canceled = appointmentService.createAppointment(
+                new AppointmentCreateRequest("김철수", appointmentTime.plusHours(1).toString(), 1L, 1, 30, null)
+        );
+        appointmentService.cancelAppointment(canceled.appointmentId());
+
+        List<AppointmentView> views = appointmentReactiveRepository
+                .findAllByDoctorIdAndAppointmentTimeBetweenAndStatusInOrderByAppointmentTimeAsc(
+                        1L,
+                        appointmentTime.minusHours(1),
+                        appointmentTime.plusHours(2),
+                        EnumSet.of(AppointmentStatus.REQUESTED, AppointmentStatus.CONFIRMED)
+                )
+                .collectList()
+                .block();
+
+        assertEquals(1, views.size());
+        assertEquals(active.appointmentId(), views.get(0).id());
+        assertEquals(AppointmentStatus.REQUESTED, views.get(0).status());
+    }
+}